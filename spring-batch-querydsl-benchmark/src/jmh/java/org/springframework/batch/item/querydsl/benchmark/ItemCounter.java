@@ -0,0 +1,21 @@
+package org.springframework.batch.item.querydsl.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 초당 읽은 item 수를 결과에 함께 보여준다
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ItemCounter {
+    public long items;
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        items = 0;
+    }
+}
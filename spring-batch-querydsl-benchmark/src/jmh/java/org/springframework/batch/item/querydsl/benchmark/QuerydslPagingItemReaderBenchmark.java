@@ -0,0 +1,104 @@
+package org.springframework.batch.item.querydsl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.querydsl.benchmark.entity.Product;
+import org.springframework.batch.item.querydsl.reader.QuerydslNoOffsetIdPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.QuerydslNoOffsetPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.QuerydslPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.batch.item.querydsl.benchmark.entity.QProduct.product;
+
+/**
+ * 테이블 전체를 Reader 로 끝까지 읽는 시간을 측정한다
+ * - items: 초당 읽은 item 수
+ * - gc.alloc.rate.norm: 전체 읽기 1회당 할당량 (-prof gc)
+ *
+ * offset 기반 Reader (paging) 는 테이블이 클수록 느려지므로 기본 파라미터에서 10M 건은 제외한다
+ * (10M 건은 NoOffset Reader 만 -p 로 지정해서 실행한다: -p rows=10000000 -p reader=noOffset,noOffsetId)
+ * ZeroPaging 은 페이지마다 row 수정이 필요해서 QuerydslZeroPagingItemReaderBenchmark 에서 따로 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuerydslPagingItemReaderBenchmark {
+
+    @Param({"paging", "noOffset", "noOffsetId"})
+    public String reader;
+
+    @Param({"1000", "10000"})
+    public int pageSize;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private EntityManagerFactory emf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.insertProducts(rows);
+        emf = database.getEntityManagerFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public void readAll(ItemCounter counter, Blackhole blackhole) throws Exception {
+        ItemStreamReader<Product> itemReader = createReader();
+        itemReader.open(new ExecutionContext());
+
+        try {
+            long readCount = 0;
+            Product item;
+            while ((item = itemReader.read()) != null) {
+                blackhole.consume(item);
+                readCount++;
+            }
+            counter.items += readCount;
+        } finally {
+            itemReader.close();
+        }
+    }
+
+    private ItemStreamReader<Product> createReader() {
+        switch (reader) {
+            case "paging":
+                return new QuerydslPagingItemReader<>(emf, pageSize, queryFactory -> queryFactory
+                        .selectFrom(product)
+                        .orderBy(product.id.asc()));
+            case "noOffset":
+                QuerydslNoOffsetNumberOptions<Product, Long> noOffsetOptions =
+                        new QuerydslNoOffsetNumberOptions<>(product.id, Expression.ASC);
+                return new QuerydslNoOffsetPagingItemReader<>(emf, pageSize, noOffsetOptions, queryFactory -> queryFactory
+                        .selectFrom(product));
+            case "noOffsetId":
+                QuerydslNoOffsetNumberOptions<Product, Long> idOptions =
+                        new QuerydslNoOffsetNumberOptions<>(product.id, Expression.ASC);
+                return new QuerydslNoOffsetIdPagingItemReader<>(emf, pageSize, idOptions, queryFactory -> queryFactory
+                        .selectFrom(product));
+            default:
+                throw new IllegalArgumentException("Unknown reader= " + reader);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.springframework.batch.item.querydsl.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.benchmark.entity.Product;
+import org.springframework.batch.item.querydsl.reader.QuerydslZeroPagingItemReader;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.batch.item.querydsl.benchmark.entity.QProduct.product;
+
+/**
+ * ZeroPaging Reader 의 페이지 조회 시간을 측정한다
+ * - items: 초당 읽은 item 수
+ *
+ * ZeroPaging 은 Writer 가 처리한 row 가 조회 대상에서 빠져야 다음 페이지로 넘어간다.
+ * 이 UPDATE 는 Reader 비용이 아니므로 측정에서 빼기 위해 한 invocation 에 한 페이지만 읽고,
+ * 이전 페이지를 처리 완료로 바꾸는 UPDATE 와 다 읽은 뒤의 초기화는 @Setup(Level.Invocation) 에서 한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QuerydslZeroPagingItemReaderBenchmark {
+
+    @Param({"1000", "10000"})
+    public int pageSize;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private EntityManagerFactory emf;
+
+    private QuerydslZeroPagingItemReader<Product> itemReader;
+    private Long lastReadId;
+    private boolean exhausted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = new BenchmarkDatabase();
+        database.insertProducts(rows);
+        emf = database.getEntityManagerFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void preparePage() {
+        if (itemReader == null || exhausted) {
+            reopen();
+        } else if (lastReadId != null) {
+            database.markProcessed(lastReadId);
+        }
+    }
+
+    private void reopen() {
+        closeReader();
+        database.resetProcessed();
+
+        itemReader = new QuerydslZeroPagingItemReader<>(emf, pageSize, queryFactory -> queryFactory
+                .selectFrom(product)
+                .where(product.processed.isFalse())
+                .orderBy(product.id.asc()));
+        itemReader.open(new ExecutionContext());
+        lastReadId = null;
+        exhausted = false;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        closeReader();
+        database.close();
+    }
+
+    private void closeReader() {
+        if (itemReader != null) {
+            itemReader.close();
+            itemReader = null;
+        }
+    }
+
+    /**
+     * 페이지의 마지막 item 까지만 읽으므로 다음 페이지 조회는 다음 invocation 에서 일어난다
+     */
+    @Benchmark
+    public void readPage(ItemCounter counter, Blackhole blackhole) throws Exception {
+        for (int i = 0; i < pageSize; i++) {
+            Product item = itemReader.read();
+            if (item == null) {
+                exhausted = true;
+                return;
+            }
+
+            blackhole.consume(item);
+            lastReadId = item.getId();
+            counter.items++;
+        }
+    }
+}
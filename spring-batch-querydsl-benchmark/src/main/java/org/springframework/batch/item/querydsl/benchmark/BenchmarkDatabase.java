@@ -0,0 +1,71 @@
+package org.springframework.batch.item.querydsl.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.batch.item.querydsl.benchmark.entity.Product;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Properties;
+
+/**
+ * 벤치마크용 내장 H2 DB 와 EntityManagerFactory
+ * Spring Context 없이 Reader 만 측정하기 위해 직접 만든다
+ */
+public class BenchmarkDatabase implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final LocalContainerEntityManagerFactoryBean factoryBean;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkDatabase() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+
+        Properties jpaProperties = new Properties();
+        jpaProperties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        jpaProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(Product.class.getPackage().getName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(jpaProperties);
+        factoryBean.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+        return factoryBean.getObject();
+    }
+
+    /**
+     * rows 건을 SYSTEM_RANGE 로 한번에 넣는다 (10M 건도 JPA 를 거치지 않고 넣을 수 있도록)
+     */
+    public void insertProducts(int rows) {
+        jdbcTemplate.execute("TRUNCATE TABLE product");
+        jdbcTemplate.update("INSERT INTO product (id, name, price, category, processed) " +
+                "SELECT X, CONCAT('product', X), MOD(X, 1000) * 100, MOD(X, 10), FALSE FROM SYSTEM_RANGE(1, ?)", rows);
+    }
+
+    /**
+     * ZeroPaging 은 처리한 row 를 조회 대상에서 빼야 다음 페이지로 넘어간다
+     */
+    public void markProcessed(long lastId) {
+        jdbcTemplate.update("UPDATE product SET processed = TRUE WHERE id <= ? AND processed = FALSE", lastId);
+    }
+
+    public void resetProcessed() {
+        jdbcTemplate.update("UPDATE product SET processed = FALSE WHERE processed = TRUE");
+    }
+
+    @Override
+    public void close() {
+        factoryBean.destroy();
+        dataSource.close();
+    }
+}
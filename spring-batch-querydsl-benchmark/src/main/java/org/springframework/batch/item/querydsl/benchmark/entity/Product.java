@@ -0,0 +1,47 @@
+package org.springframework.batch.item.querydsl.benchmark.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * 벤치마크용 Entity
+ * 데이터는 BenchmarkDatabase 에서 SQL 로 한번에 넣으므로 id 는 직접 지정한다
+ * ZeroPaging 조회 (processed = false order by id) 와 처리 완료 UPDATE 가 전체를 훑지 않도록 (processed, id) 인덱스를 둔다
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_product_processed", columnList = "processed, id"))
+public class Product {
+
+    @Id
+    private Long id;
+
+    private String name;
+    private long price;
+    private int category;
+    private boolean processed;
+
+    protected Product() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public int getCategory() {
+        return category;
+    }
+
+    public boolean isProcessed() {
+        return processed;
+    }
+}
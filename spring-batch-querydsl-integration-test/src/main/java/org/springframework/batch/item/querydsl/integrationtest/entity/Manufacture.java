@@ -37,4 +37,8 @@ public class Manufacture {
         this.categoryNo = categoryNo;
         this.createDate = createDate;
     }
+
+    public void changePrice(long price) {
+        this.price = price;
+    }
 }
@@ -0,0 +1,20 @@
+package org.springframework.batch.item.querydsl.integrationtest.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Manufacture 의 일부 컬럼만 조회하는 Projection
+ */
+@Getter
+@NoArgsConstructor
+public class ManufacturePriceDto {
+
+    private Long manufactureId;
+    private long price;
+
+    public ManufacturePriceDto(Long manufactureId, long price) {
+        this.manufactureId = manufactureId;
+        this.price = price;
+    }
+}
@@ -0,0 +1,51 @@
+package org.springframework.batch.item.querydsl.integrationtest.entity;
+
+import com.querydsl.core.types.dsl.DatePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.sql.ColumnMetadata;
+import com.querydsl.sql.PrimaryKey;
+import com.querydsl.sql.RelationalPathBase;
+
+import java.sql.Types;
+import java.time.LocalDate;
+
+import static com.querydsl.core.types.PathMetadataFactory.forVariable;
+
+/**
+ * ManufactureBackup 테이블의 Querydsl SQL 메타 모델 (querydsl-sql-codegen 결과와 같은 형태)
+ */
+public class SManufactureBackup extends RelationalPathBase<SManufactureBackup> {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final SManufactureBackup manufactureBackup = new SManufactureBackup("manufacture_backup");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Long> originId = createNumber("originId", Long.class);
+
+    public final StringPath name = createString("name");
+
+    public final NumberPath<Long> price = createNumber("price", Long.class);
+
+    public final NumberPath<Integer> categoryNo = createNumber("categoryNo", Integer.class);
+
+    public final DatePath<LocalDate> createDate = createDate("createDate", LocalDate.class);
+
+    public final PrimaryKey<SManufactureBackup> primary = createPrimaryKey(id);
+
+    public SManufactureBackup(String variable) {
+        super(SManufactureBackup.class, forVariable(variable), null, "manufacture_backup");
+        addMetadata();
+    }
+
+    public void addMetadata() {
+        addMetadata(id, ColumnMetadata.named("id").withIndex(1).ofType(Types.BIGINT).withSize(19).notNull());
+        addMetadata(originId, ColumnMetadata.named("origin_id").withIndex(2).ofType(Types.BIGINT).withSize(19));
+        addMetadata(name, ColumnMetadata.named("name").withIndex(3).ofType(Types.VARCHAR).withSize(255));
+        addMetadata(price, ColumnMetadata.named("price").withIndex(4).ofType(Types.BIGINT).withSize(19).notNull());
+        addMetadata(categoryNo, ColumnMetadata.named("category_no").withIndex(5).ofType(Types.INTEGER).withSize(10).notNull());
+        addMetadata(createDate, ColumnMetadata.named("create_date").withIndex(6).ofType(Types.DATE));
+    }
+}
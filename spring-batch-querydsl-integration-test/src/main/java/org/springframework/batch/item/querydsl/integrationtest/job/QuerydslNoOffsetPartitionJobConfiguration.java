@@ -0,0 +1,128 @@
+package org.springframework.batch.item.querydsl.integrationtest.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JpaItemWriter;
+import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackup;
+import org.springframework.batch.item.querydsl.reader.QuerydslNoOffsetPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.batch.item.querydsl.reader.partition.QuerydslNoOffsetNumberPartitioner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+
+import static java.time.LocalDate.parse;
+import static java.time.format.DateTimeFormatter.ofPattern;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
+
+/**
+ * id 범위를 gridSize 개로 나눠 Worker Step 들이 병렬로 NoOffset 조회를 하는 Job
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+public class QuerydslNoOffsetPartitionJobConfiguration {
+    public static final String JOB_NAME = "querydslNoOffsetPartitionJob";
+
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final EntityManagerFactory emf;
+
+    private int chunkSize;
+    private int gridSize;
+
+    @Value("${chunkSize:1000}")
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Value("${gridSize:4}")
+    public void setGridSize(int gridSize) {
+        this.gridSize = gridSize;
+    }
+
+    @Bean
+    public Job partitionJob() {
+        return jobBuilderFactory.get(JOB_NAME)
+                .start(partitionManagerStep())
+                .build();
+    }
+
+    @Bean
+    public Step partitionManagerStep() {
+        return stepBuilderFactory.get("querydslNoOffsetPartitionManagerStep")
+                .partitioner("querydslNoOffsetPartitionWorkerStep", partitioner(null))
+                .step(partitionWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(partitionTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public QuerydslNoOffsetNumberPartitioner<Manufacture, Long> partitioner(
+            @Value("#{jobParameters[txDate]}") String txDate) {
+        LocalDate date = parse(txDate, ofPattern("yyyy-MM-dd"));
+        return new QuerydslNoOffsetNumberPartitioner<>(emf, manufacture.id, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(date)));
+    }
+
+    @Bean
+    public TaskExecutor partitionTaskExecutor() {
+        return new SimpleAsyncTaskExecutor("partition-");
+    }
+
+    @Bean
+    public Step partitionWorkerStep() {
+        return stepBuilderFactory.get("querydslNoOffsetPartitionWorkerStep")
+                .<Manufacture, ManufactureBackup>chunk(chunkSize)
+                .reader(partitionReader(null, null, null))
+                .processor(partitionProcessor())
+                .writer(partitionWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public QuerydslNoOffsetPagingItemReader<Manufacture> partitionReader(
+            @Value("#{jobParameters[txDate]}") String txDate,
+            @Value("#{stepExecutionContext[minId]}") Long minId,
+            @Value("#{stepExecutionContext[maxId]}") Long maxId) {
+        LocalDate date = parse(txDate, ofPattern("yyyy-MM-dd"));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        // 자신의 파티션 구간만 조회한다
+        return new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(date),
+                        manufacture.id.between(minId, maxId)));
+    }
+
+    private ItemProcessor<Manufacture, ManufactureBackup> partitionProcessor() {
+        return ManufactureBackup::new;
+    }
+
+    @Bean
+    public JpaItemWriter<ManufactureBackup> partitionWriter() {
+        return new JpaItemWriterBuilder<ManufactureBackup>()
+                .entityManagerFactory(emf)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package org.springframework.batch.item.querydsl.integrationtest.job;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackup;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackupRepository;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static java.time.format.DateTimeFormatter.ofPattern;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {TestBatchConfig.class, QuerydslNoOffsetPartitionJobConfiguration.class})
+@SpringBatchTest
+@TestPropertySource(properties = {"chunkSize=2", "gridSize=3"})
+public class QuerydslNoOffsetPartitionJobConfigurationTest {
+    public static final DateTimeFormatter FORMATTER = ofPattern("yyyy-MM-dd");
+
+    @Autowired
+    private ManufactureRepository productRepository;
+
+    @Autowired
+    private ManufactureBackupRepository productBackupRepository;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @After
+    public void after() throws Exception {
+        productRepository.deleteAllInBatch();
+        productBackupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 파티션별로_Product가_ProductBackup으로_이관된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 10; i++) {
+            productRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+        productRepository.save(new Manufacture("a", 99999, 1, txDate.plusDays(1)));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("txDate", txDate.format(FORMATTER))
+                .toJobParameters();
+
+        //when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        //then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        List<ManufactureBackup> backups = productBackupRepository.findAll();
+        assertThat(backups.size()).isEqualTo(10);
+        assertThat(backups).extracting(ManufactureBackup::getPrice).doesNotContain(99999L);
+    }
+}
@@ -0,0 +1,130 @@
+package org.springframework.batch.item.querydsl.integrationtest.reader;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.integrationtest.job.QuerydslPagingItemReaderConfiguration;
+import org.springframework.batch.item.querydsl.reader.QuerydslCursorItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {TestBatchConfig.class, QuerydslPagingItemReaderConfiguration.class})
+public class QuerydslCursorItemReaderTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void reader가_정상적으로_값을반환한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int fetchSize = 2;
+
+        QuerydslCursorItemReader<Manufacture> reader = new QuerydslCursorItemReader<>(emf, fetchSize, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.id.asc()));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(1000L, 2000L, 3000L, 4000L, 5000L);
+    }
+
+    @Test
+    public void 빈값일경우_null이_반환된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+
+        QuerydslCursorItemReader<Manufacture> reader = new QuerydslCursorItemReader<>(emf, 10, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        reader.close();
+
+        //then
+        assertThat(read1).isNull();
+    }
+
+    @Test
+    public void clearInterval마다_영속성컨텍스트를_비운다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int fetchSize = 10;
+        int clearInterval = 2;
+
+        TestCursorItemReader reader = new TestCursorItemReader(fetchSize, clearInterval, txDate);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        boolean containsBeforeClear = reader.contains(read1);
+        Manufacture read3 = reader.read();
+        boolean containsAfterClear = reader.contains(read1);
+        reader.close();
+
+        //then
+        assertThat(containsBeforeClear).isTrue();
+        assertThat(containsAfterClear).isFalse();
+        assertThat(read2.getPrice()).isEqualTo(2000);
+        assertThat(read3.getPrice()).isEqualTo(3000);
+    }
+
+    private class TestCursorItemReader extends QuerydslCursorItemReader<Manufacture> {
+
+        TestCursorItemReader(int fetchSize, int clearInterval, LocalDate txDate) {
+            super(emf, fetchSize, clearInterval, queryFactory -> queryFactory
+                    .selectFrom(manufacture)
+                    .where(manufacture.createDate.eq(txDate))
+                    .orderBy(manufacture.id.asc()));
+        }
+
+        boolean contains(Manufacture item) {
+            return entityManager.contains(item);
+        }
+    }
+}
@@ -1,20 +1,29 @@
 package org.springframework.batch.item.querydsl.integrationtest.reader;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.springframework.batch.core.repository.dao.Jackson2ExecutionContextStringSerializer;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
 import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufacturePriceDto;
 import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
 import org.springframework.batch.item.querydsl.integrationtest.job.QuerydslNoOffsetPagingItemReaderConfiguration;
 import org.springframework.batch.item.querydsl.reader.QuerydslNoOffsetPagingItemReader;
 import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetAdaptivePageSize;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetComparableOptions;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetCompositeOptions;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetStringOptions;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,9 +31,25 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetCompositeOptions.column;
 import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
 
 @RunWith(SpringRunner.class)
@@ -325,4 +350,604 @@ public class QuerydslNoOffsetPagingItemReaderTest {
         assertThat(read2.getName()).isEqualTo(expected2);
         assertThat(read3).isNull();
     }
+
+    @Test
+    public void Tuple로_조회해도_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+        manufactureRepository.save(new Manufacture("c", 3000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<Tuple, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 2;
+
+        QuerydslNoOffsetPagingItemReader<Tuple> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .select(manufacture.id, manufacture.price)
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Tuple read1 = reader.read();
+        Tuple read2 = reader.read();
+        Tuple read3 = reader.read();
+        Tuple read4 = reader.read();
+
+        //then
+        assertThat(read1.get(manufacture.price)).isEqualTo(1000L);
+        assertThat(read2.get(manufacture.price)).isEqualTo(2000L);
+        assertThat(read3.get(manufacture.price)).isEqualTo(3000L);
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void DTO로_조회하면_keyExtractor로_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+        manufactureRepository.save(new Manufacture("c", 3000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<ManufacturePriceDto, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC, ManufacturePriceDto::getManufactureId);
+
+        int chunkSize = 2;
+
+        QuerydslNoOffsetPagingItemReader<ManufacturePriceDto> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .select(Projections.constructor(ManufacturePriceDto.class, manufacture.id, manufacture.price))
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        reader.setTransacted(false);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        ManufacturePriceDto read1 = reader.read();
+        ManufacturePriceDto read2 = reader.read();
+        ManufacturePriceDto read3 = reader.read();
+        ManufacturePriceDto read4 = reader.read();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(3000);
+        assertThat(read2.getPrice()).isEqualTo(2000);
+        assertThat(read3.getPrice()).isEqualTo(1000);
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void meterRegistry가_있으면_페이지조회_지표가_기록된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 1;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reader.setName("manufactureReader");
+        reader.setMeterRegistry(registry);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        while (reader.read() != null) {
+        }
+        reader.close();
+
+        //then
+        String prefix = "spring.batch.querydsl.reader";
+        assertThat(registry.get(prefix + ".key.lookup").tag("name", "manufactureReader").timer().count()).isEqualTo(1);
+        assertThat(registry.get(prefix + ".fetch").tag("name", "manufactureReader").timer().count()).isEqualTo(2);
+        assertThat(registry.get(prefix + ".clear").tag("name", "manufactureReader").timer().count()).isEqualTo(2);
+        assertThat(registry.get(prefix + ".rows").tag("name", "manufactureReader").summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get(prefix + ".empty.page").tag("name", "manufactureReader").counter().count()).isEqualTo(0);
+    }
+
+    @Test
+    public void 마지막_key까지_읽으면_빈페이지를_조회하지_않는다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 0; i < 4; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC);
+
+        int chunkSize = 2;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reader.setMeterRegistry(registry);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(3L, 2L, 1L, 0L);
+        assertThat(registry.get("spring.batch.querydsl.reader.fetch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void 쿼리는_open시_한번만_만들고_페이지마다_복사해서_사용한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 0; i < 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 2;
+        AtomicInteger queryFunctionCalls = new AtomicInteger();
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> {
+            queryFunctionCalls.incrementAndGet();
+            return queryFactory
+                    .selectFrom(manufacture)
+                    .where(manufacture.createDate.eq(txDate));
+        });
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(0L, 1L, 2L, 3L, 4L);
+        assertThat(queryFunctionCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void adaptivePageSize로_limit이_바뀌어도_누락이나_중복이_없다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        int totalCount = 20;
+        for (int i = 0; i < totalCount; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 2;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        // 목표 시간이 충분히 길어서 페이지마다 2배씩 늘어난다 (2, 4, 8, 8)
+        reader.setAdaptivePageSize(new QuerydslNoOffsetAdaptivePageSize(2, 8, 1, TimeUnit.HOURS));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reader.setName("adaptiveReader");
+        reader.setMeterRegistry(registry);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).hasSize(totalCount);
+        assertThat(prices).isSorted();
+        assertThat(prices).doesNotHaveDuplicates();
+        DistributionSummary rows = registry.get("spring.batch.querydsl.reader.rows").tag("name", "adaptiveReader").summary();
+        assertThat(rows.count()).isEqualTo(4); // 2, 4, 8, 6
+        assertThat(rows.max()).isEqualTo(8);
+        assertThat(reader.getPageSize()).isEqualTo(chunkSize);
+    }
+
+    @Test
+    public void 재시작시_마지막으로_읽은_key_다음부터_조회한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        String name = "a";
+        int categoryNo = 1;
+        int expected1 = 1000;
+        int expected2 = 2000;
+        int expected3 = 3000;
+        manufactureRepository.save(new Manufacture(name, expected1, categoryNo, txDate));
+        manufactureRepository.save(new Manufacture(name, expected2, categoryNo, txDate));
+        manufactureRepository.save(new Manufacture(name, expected3, categoryNo, txDate));
+
+        int chunkSize = 2;
+        ExecutionContext executionContext = new ExecutionContext();
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(executionContext);
+        Manufacture read1 = reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> restartOptions = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+        QuerydslNoOffsetPagingItemReader<Manufacture> restartReader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, restartOptions, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        //when
+        restartReader.open(executionContext);
+        Manufacture read2 = restartReader.read();
+        Manufacture read3 = restartReader.read();
+        Manufacture read4 = restartReader.read();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(expected1);
+        assertThat(read2.getPrice()).isEqualTo(expected2);
+        assertThat(read3.getPrice()).isEqualTo(expected3);
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void 멀티쓰레드로_읽어도_중복이나_누락이_없다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        int totalCount = 50;
+        for (int i = 0; i < totalCount; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 3;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        reader.setSaveState(false);
+        reader.open(new ExecutionContext());
+
+        Queue<Long> readIds = new ConcurrentLinkedQueue<>();
+        Callable<Void> task = () -> {
+            Manufacture item;
+            while ((item = reader.read()) != null) {
+                readIds.add(item.getId());
+            }
+            return null;
+        };
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        reader.close();
+
+        //then
+        assertThat(readIds).hasSize(totalCount);
+        assertThat(readIds).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void prefetch를_사용해도_nooffset이_순서대로_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        int totalCount = 10;
+        for (int i = 0; i < totalCount; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC);
+
+        int chunkSize = 3;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        reader.setPrefetchDepth(1);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L, 0L);
+    }
+
+    @Test
+    public void prefetch중에_close해도_정상종료된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 0; i < 10; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, 1, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        reader.setPrefetchDepth(2);
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        reader.close();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(0);
+    }
+
+    @Test
+    public void 복합컬럼_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate1 = LocalDate.of(2020,10,12);
+        LocalDate txDate2 = LocalDate.of(2020,10,13);
+        String name = "a";
+        int categoryNo = 1;
+        manufactureRepository.save(new Manufacture(name, 1000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 2000, categoryNo, txDate1));
+        manufactureRepository.save(new Manufacture(name, 3000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 4000, categoryNo, txDate1));
+
+        QuerydslNoOffsetCompositeOptions<Manufacture> options = new QuerydslNoOffsetCompositeOptions<>(
+                column(manufacture.createDate, Expression.ASC),
+                column(manufacture.id, Expression.ASC));
+
+        int chunkSize = 1;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.between(txDate1, txDate2)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        Manufacture read3 = reader.read();
+        Manufacture read4 = reader.read();
+        Manufacture read5 = reader.read();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(2000);
+        assertThat(read2.getPrice()).isEqualTo(4000);
+        assertThat(read3.getPrice()).isEqualTo(1000);
+        assertThat(read4.getPrice()).isEqualTo(3000);
+        assertThat(read5).isNull();
+    }
+
+    @Test
+    public void 복합컬럼_컬럼별로_정렬방향이_적용된다() throws Exception {
+        //given
+        LocalDate txDate1 = LocalDate.of(2020,10,12);
+        LocalDate txDate2 = LocalDate.of(2020,10,13);
+        String name = "a";
+        int categoryNo = 1;
+        manufactureRepository.save(new Manufacture(name, 1000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 2000, categoryNo, txDate1));
+        manufactureRepository.save(new Manufacture(name, 3000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 4000, categoryNo, txDate1));
+
+        QuerydslNoOffsetCompositeOptions<Manufacture> options = new QuerydslNoOffsetCompositeOptions<>(
+                column(manufacture.createDate, Expression.DESC),
+                column(manufacture.id, Expression.ASC));
+
+        int chunkSize = 3;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.between(txDate1, txDate2)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        Manufacture read3 = reader.read();
+        Manufacture read4 = reader.read();
+        Manufacture read5 = reader.read();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(1000);
+        assertThat(read2.getPrice()).isEqualTo(3000);
+        assertThat(read3.getPrice()).isEqualTo(2000);
+        assertThat(read4.getPrice()).isEqualTo(4000);
+        assertThat(read5).isNull();
+    }
+
+    @Test
+    public void 날짜필드_ASC_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate startDate = LocalDate.of(2020,10,12);
+        String name = "a";
+        manufactureRepository.save(new Manufacture(name, 1000, 1, startDate.plusDays(1)));
+        manufactureRepository.save(new Manufacture(name, 2000, 1, startDate));
+        manufactureRepository.save(new Manufacture(name, 3000, 1, startDate.plusDays(2)));
+
+        QuerydslNoOffsetComparableOptions<Manufacture, LocalDate> options =
+                new QuerydslNoOffsetComparableOptions<>(manufacture.createDate, Expression.ASC);
+
+        int chunkSize = 1;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq(name)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        Manufacture read3 = reader.read();
+        Manufacture read4 = reader.read();
+
+        //then
+        assertThat(read1.getCreateDate()).isEqualTo(startDate);
+        assertThat(read2.getCreateDate()).isEqualTo(startDate.plusDays(1));
+        assertThat(read3.getCreateDate()).isEqualTo(startDate.plusDays(2));
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void 날짜필드_DESC_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate startDate = LocalDate.of(2020,10,12);
+        String name = "a";
+        manufactureRepository.save(new Manufacture(name, 1000, 1, startDate.plusDays(1)));
+        manufactureRepository.save(new Manufacture(name, 2000, 1, startDate));
+        manufactureRepository.save(new Manufacture(name, 3000, 1, startDate.plusDays(2)));
+
+        QuerydslNoOffsetComparableOptions<Manufacture, LocalDate> options =
+                new QuerydslNoOffsetComparableOptions<>(manufacture.createDate, Expression.DESC, Manufacture::getCreateDate);
+
+        int chunkSize = 2;
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq(name)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        Manufacture read3 = reader.read();
+        Manufacture read4 = reader.read();
+
+        //then
+        assertThat(read1.getCreateDate()).isEqualTo(startDate.plusDays(2));
+        assertThat(read2.getCreateDate()).isEqualTo(startDate.plusDays(1));
+        assertThat(read3.getCreateDate()).isEqualTo(startDate);
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void 날짜필드_재시작시_JobRepository에_저장된_key_다음부터_조회한다() throws Exception {
+        //given
+        LocalDate startDate = LocalDate.of(2020,10,12);
+        String name = "a";
+        manufactureRepository.save(new Manufacture(name, 1000, 1, startDate.plusDays(1)));
+        manufactureRepository.save(new Manufacture(name, 2000, 1, startDate));
+        manufactureRepository.save(new Manufacture(name, 3000, 1, startDate.plusDays(2)));
+
+        int chunkSize = 2;
+        ExecutionContext executionContext = new ExecutionContext();
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize,
+                new QuerydslNoOffsetComparableOptions<>(manufacture.createDate, Expression.ASC), queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq(name)));
+
+        reader.open(executionContext);
+        Manufacture read1 = reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> restartReader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize,
+                new QuerydslNoOffsetComparableOptions<>(manufacture.createDate, Expression.ASC), queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq(name)));
+
+        //when
+        restartReader.open(serialize(executionContext));
+        Manufacture read2 = restartReader.read();
+        Manufacture read3 = restartReader.read();
+        Manufacture read4 = restartReader.read();
+        restartReader.close();
+
+        //then
+        assertThat(read1.getCreateDate()).isEqualTo(startDate);
+        assertThat(read2.getCreateDate()).isEqualTo(startDate.plusDays(1));
+        assertThat(read3.getCreateDate()).isEqualTo(startDate.plusDays(2));
+        assertThat(read4).isNull();
+    }
+
+    @Test
+    public void 복합컬럼_재시작시_JobRepository에_저장된_key_다음부터_조회한다() throws Exception {
+        //given
+        LocalDate txDate1 = LocalDate.of(2020,10,12);
+        LocalDate txDate2 = LocalDate.of(2020,10,13);
+        String name = "a";
+        int categoryNo = 1;
+        manufactureRepository.save(new Manufacture(name, 1000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 2000, categoryNo, txDate1));
+        manufactureRepository.save(new Manufacture(name, 3000, categoryNo, txDate2));
+        manufactureRepository.save(new Manufacture(name, 4000, categoryNo, txDate1));
+
+        int chunkSize = 2;
+        ExecutionContext executionContext = new ExecutionContext();
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> reader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize,
+                new QuerydslNoOffsetCompositeOptions<>(column(manufacture.createDate, Expression.ASC), column(manufacture.id, Expression.ASC)),
+                queryFactory -> queryFactory
+                        .selectFrom(manufacture)
+                        .where(manufacture.createDate.between(txDate1, txDate2)));
+
+        reader.open(executionContext);
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        Manufacture read3 = reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        QuerydslNoOffsetPagingItemReader<Manufacture> restartReader = new QuerydslNoOffsetPagingItemReader<>(emf, chunkSize,
+                new QuerydslNoOffsetCompositeOptions<>(column(manufacture.createDate, Expression.ASC), column(manufacture.id, Expression.ASC)),
+                queryFactory -> queryFactory
+                        .selectFrom(manufacture)
+                        .where(manufacture.createDate.between(txDate1, txDate2)));
+
+        //when
+        restartReader.open(serialize(executionContext));
+        Manufacture read4 = restartReader.read();
+        Manufacture read5 = restartReader.read();
+        restartReader.close();
+
+        //then
+        assertThat(read1.getPrice()).isEqualTo(2000);
+        assertThat(read2.getPrice()).isEqualTo(4000);
+        assertThat(read3.getPrice()).isEqualTo(1000);
+        assertThat(read4.getPrice()).isEqualTo(3000);
+        assertThat(read5).isNull();
+    }
+
+    // JobRepository 가 저장했다가 다시 읽은 ExecutionContext
+    private ExecutionContext serialize(ExecutionContext executionContext) throws IOException {
+        Map<String, Object> context = new HashMap<>();
+        for (Map.Entry<String, Object> entry : executionContext.entrySet()) {
+            context.put(entry.getKey(), entry.getValue());
+        }
+
+        Jackson2ExecutionContextStringSerializer serializer = new Jackson2ExecutionContextStringSerializer();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(context, out);
+        return new ExecutionContext(serializer.deserialize(new ByteArrayInputStream(out.toByteArray())));
+    }
 }
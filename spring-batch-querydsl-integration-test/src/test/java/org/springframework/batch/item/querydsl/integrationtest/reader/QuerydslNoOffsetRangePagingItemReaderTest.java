@@ -0,0 +1,222 @@
+package org.springframework.batch.item.querydsl.integrationtest.reader;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.integrationtest.job.QuerydslNoOffsetPagingItemReaderConfiguration;
+import org.springframework.batch.item.querydsl.reader.QuerydslNoOffsetRangePagingItemReader;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {TestBatchConfig.class, QuerydslNoOffsetPagingItemReaderConfiguration.class})
+public class QuerydslNoOffsetRangePagingItemReaderTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @After
+    public void after() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 조건에_맞는_row가_드문드문_있어도_모두_순서대로_반환한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        LocalDate otherDate = LocalDate.of(2020,10,13);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            boolean matched = i % 3 == 0;
+            manufactureRepository.save(new Manufacture("a", i, 1, matched ? txDate : otherDate));
+            if (matched) {
+                expected.add((long) i);
+            }
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 4;
+        long windowWidth = 2;
+
+        QuerydslNoOffsetRangePagingItemReader<Manufacture, Long> reader = new QuerydslNoOffsetRangePagingItemReader<>(emf, chunkSize, windowWidth, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void 한페이지의_구간들은_하나의_트랜잭션에서_조회하고_페이지단위로_기록한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        LocalDate otherDate = LocalDate.of(2020,10,13);
+        for (int i = 0; i < 30; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, i % 3 == 0 ? txDate : otherDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 4;
+        long windowWidth = 2;
+
+        ManagedCheckingReader reader = new ManagedCheckingReader(emf, chunkSize, windowWidth, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reader.setMeterRegistry(registry);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Manufacture> firstPage = new ArrayList<>();
+        for (int i = 0; i < chunkSize; i++) {
+            firstPage.add(reader.read());
+        }
+        boolean firstPageManaged = firstPage.stream().allMatch(reader::isManaged);
+
+        while (reader.read() != null) {
+        }
+        reader.close();
+
+        //then
+        String prefix = "spring.batch.querydsl.reader";
+        assertThat(firstPageManaged).isTrue(); // 앞 구간의 Entity 가 뒤 구간 조회 전에 clear 되지 않는다
+        assertThat(registry.get(prefix + ".clear").timer().count()).isEqualTo(3); // 4건, 4건, 2건
+        assertThat(registry.get(prefix + ".rows").summary().count()).isEqualTo(3);
+        assertThat(registry.get(prefix + ".rows").summary().totalAmount()).isEqualTo(10);
+        assertThat(registry.get(prefix + ".empty.page").counter().count()).isEqualTo(0);
+    }
+
+    @Test
+    public void 구간이_페이지보다_많은_row를_가지면_페이지단위로_나눠서_반환한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 0; i < 10; i++) {
+            manufactureRepository.save(new Manufacture("a", i, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        int chunkSize = 3;
+        long windowWidth = 100;
+
+        QuerydslNoOffsetRangePagingItemReader<Manufacture, Long> reader = new QuerydslNoOffsetRangePagingItemReader<>(emf, chunkSize, windowWidth, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    public void 빈값일경우_null이_반환된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        QuerydslNoOffsetRangePagingItemReader<Manufacture, Long> reader = new QuerydslNoOffsetRangePagingItemReader<>(emf, 10, 10, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        reader.close();
+
+        //then
+        assertThat(read1).isNull();
+    }
+
+    @Test
+    public void DESC는_지원하지_않는다() {
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC);
+
+        assertThatThrownBy(() -> new QuerydslNoOffsetRangePagingItemReader<>(emf, 10, 10, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 정수가_아닌_key는_사용할수_없다() {
+        QuerydslNoOffsetNumberOptions<Manufacture, Double> options = new QuerydslNoOffsetNumberOptions<>(Expressions.numberPath(Double.class, "rate"), Expression.ASC);
+
+        assertThatThrownBy(() -> new QuerydslNoOffsetRangePagingItemReader<>(emf, 10, 10, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void groupBy_쿼리는_지원하지_않는다() {
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options = new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        QuerydslNoOffsetRangePagingItemReader<Manufacture, Long> reader = new QuerydslNoOffsetRangePagingItemReader<>(emf, 10, 10, options, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .groupBy(manufacture.id));
+
+        assertThatThrownBy(() -> reader.open(new ExecutionContext()))
+                .isInstanceOf(ItemStreamException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static class ManagedCheckingReader extends QuerydslNoOffsetRangePagingItemReader<Manufacture, Long> {
+
+        ManagedCheckingReader(EntityManagerFactory emf, int pageSize, long windowWidth,
+                              QuerydslNoOffsetNumberOptions<Manufacture, Long> options,
+                              Function<JPAQueryFactory, JPAQuery<Manufacture>> queryFunction) {
+            super(emf, pageSize, windowWidth, options, queryFunction);
+        }
+
+        boolean isManaged(Manufacture item) {
+            return entityManager.contains(item);
+        }
+    }
+}
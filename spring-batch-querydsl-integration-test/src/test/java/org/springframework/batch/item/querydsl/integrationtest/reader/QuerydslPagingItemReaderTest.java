@@ -1,5 +1,9 @@
 package org.springframework.batch.item.querydsl.integrationtest.reader;
 
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.Session;
 import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -14,7 +18,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
@@ -88,4 +98,199 @@ public class QuerydslPagingItemReaderTest {
         //then
         assertThat(read1).isNull();
     }
+
+    @Test
+    public void prefetch를_사용해도_순서대로_모두_반환한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        String name = "a";
+        int categoryNo = 1;
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture(name, i * 1000, categoryNo, txDate));
+        }
+
+        int pageSize = 2;
+
+        QuerydslPagingItemReader<Manufacture> reader = new QuerydslPagingItemReader<>(emf, pageSize, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.id.asc()));
+        reader.setPrefetchDepth(2);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(1000L, 2000L, 3000L, 4000L, 5000L);
+    }
+
+    @Test
+    public void prefetch를_사용하면_transacted여도_detach된_Entity를_넘겨준다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int pageSize = 2;
+        List<Boolean> managedFlags = Collections.synchronizedList(new ArrayList<>());
+
+        QuerydslPagingItemReader<Manufacture> reader = new QuerydslPagingItemReader<Manufacture>(emf, pageSize, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.id.asc())) {
+
+            // prefetch 쓰레드에서 넘겨주기 직전의 상태를 기록한다
+            @Override
+            protected List<Manufacture> fetchQuery(JPQLQuery<Manufacture> query, EntityTransaction tx) {
+                List<Manufacture> items = super.fetchQuery(query, tx);
+                for (Manufacture item : items) {
+                    managedFlags.add(entityManager.contains(item));
+                }
+                return items;
+            }
+        };
+        reader.setPrefetchDepth(2);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            item.changePrice(0L); // prefetch 쓰레드의 다음 페이지 flush 에 포함되면 안된다
+        }
+        reader.close();
+
+        //then
+        assertThat(managedFlags).containsOnly(false).hasSize(5);
+        assertThat(manufactureRepository.findAll())
+                .extracting(Manufacture::getPrice)
+                .containsExactlyInAnyOrder(1000L, 2000L, 3000L, 4000L, 5000L);
+    }
+
+    @Test
+    public void 쿼리는_open시_한번만_만든다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int pageSize = 1;
+        AtomicInteger queryFunctionCalls = new AtomicInteger();
+
+        QuerydslPagingItemReader<Manufacture> reader = new QuerydslPagingItemReader<>(emf, pageSize, queryFactory -> {
+            queryFunctionCalls.incrementAndGet();
+            return queryFactory
+                    .selectFrom(manufacture)
+                    .where(manufacture.createDate.eq(txDate))
+                    .orderBy(manufacture.id.asc());
+        });
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(1000L, 2000L, 3000L);
+        assertThat(queryFunctionCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void readOnly이면_읽기전용_Entity로_조회한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int pageSize = 2;
+        List<Boolean> readOnlyFlags = new ArrayList<>();
+
+        QuerydslPagingItemReader<Manufacture> reader = new QuerydslPagingItemReader<Manufacture>(emf, pageSize, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.id.asc())) {
+
+            @Override
+            protected List<Manufacture> fetchQuery(JPQLQuery<Manufacture> query, EntityTransaction tx) {
+                List<Manufacture> items = super.fetchQuery(query, tx);
+                Session session = entityManager.unwrap(Session.class);
+                for (Manufacture item : items) {
+                    readOnlyFlags.add(session.isReadOnly(item));
+                }
+                return items;
+            }
+        };
+        reader.setReadOnly(true);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Manufacture item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(1000L, 2000L, 3000L);
+        assertThat(readOnlyFlags).containsOnly(true).hasSize(3);
+    }
+
+    @Test
+    public void transacted가_false이면_다음페이지_조회전에_이전페이지를_detach한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int pageSize = 2;
+
+        ManagedCheckingReader reader = new ManagedCheckingReader(emf, pageSize, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.id.asc()));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Manufacture read1 = reader.read();
+        Manufacture read2 = reader.read();
+        boolean managedInPage = reader.isManaged(read1) && reader.isManaged(read2);
+        Manufacture read3 = reader.read();
+
+        //then
+        assertThat(managedInPage).isTrue();
+        assertThat(reader.isManaged(read1)).isFalse();
+        assertThat(reader.isManaged(read2)).isFalse();
+        assertThat(reader.isManaged(read3)).isTrue();
+        reader.close();
+    }
+
+    private static class ManagedCheckingReader extends QuerydslPagingItemReader<Manufacture> {
+
+        ManagedCheckingReader(EntityManagerFactory emf, int pageSize, Function<JPAQueryFactory, JPAQuery<Manufacture>> queryFunction) {
+            super(emf, pageSize, false, queryFunction);
+        }
+
+        boolean isManaged(Manufacture item) {
+            return entityManager.contains(item);
+        }
+    }
 }
@@ -0,0 +1,272 @@
+package org.springframework.batch.item.querydsl.integrationtest.reader;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufacturePriceDto;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.reader.QuerydslSqlNoOffsetPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetStringOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.SManufacture.manufacture;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBatchConfig.class)
+public class QuerydslSqlNoOffsetPagingItemReaderTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final Configuration configuration = new Configuration(H2Templates.builder().build());
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void DTO로_조회하면_keyExtractor로_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+        manufactureRepository.save(new Manufacture("b", 9000, 1, txDate.plusDays(1)));
+
+        QuerydslNoOffsetNumberOptions<ManufacturePriceDto, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC, ManufacturePriceDto::getManufactureId);
+
+        int chunkSize = 2;
+
+        QuerydslSqlNoOffsetPagingItemReader<ManufacturePriceDto> reader = new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, chunkSize, options, queryFactory -> queryFactory
+                .select(Projections.constructor(ManufacturePriceDto.class, manufacture.id, manufacture.price))
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        ManufacturePriceDto item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.getPrice());
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(1000L, 2000L, 3000L, 4000L, 5000L);
+    }
+
+    @Test
+    public void Tuple로_역순_조회한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Tuple, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC);
+
+        int chunkSize = 2;
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, chunkSize, options, queryFactory -> queryFactory
+                .select(manufacture.id, manufacture.price)
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Long> prices = new ArrayList<>();
+        Tuple item;
+        while ((item = reader.read()) != null) {
+            prices.add(item.get(manufacture.price));
+        }
+        reader.close();
+
+        //then
+        assertThat(prices).containsExactly(3000L, 2000L, 1000L);
+    }
+
+    @Test
+    public void groupBy_쿼리도_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int categoryNo = 1; categoryNo <= 3; categoryNo++) {
+            manufactureRepository.save(new Manufacture("a", 1000, categoryNo, txDate));
+            manufactureRepository.save(new Manufacture("b", 2000, categoryNo, txDate));
+        }
+
+        QuerydslNoOffsetNumberOptions<Tuple, Integer> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.categoryNo, Expression.DESC);
+
+        int chunkSize = 2;
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, chunkSize, options, queryFactory -> queryFactory
+                .select(manufacture.categoryNo, manufacture.price.sum())
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .groupBy(manufacture.categoryNo));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<Integer> categories = new ArrayList<>();
+        Tuple item;
+        while ((item = reader.read()) != null) {
+            categories.add(item.get(manufacture.categoryNo));
+        }
+        reader.close();
+
+        //then
+        assertThat(categories).containsExactly(3, 2, 1);
+    }
+
+    @Test
+    public void 문자열_key로_nooffset이_적용된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("c", 3000, 1, txDate));
+        manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+
+        QuerydslNoOffsetStringOptions<Tuple> options =
+                new QuerydslNoOffsetStringOptions<>(manufacture.name, Expression.ASC);
+
+        int chunkSize = 2;
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, chunkSize, options, queryFactory -> queryFactory
+                .select(manufacture.name, manufacture.price)
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        List<String> names = new ArrayList<>();
+        Tuple item;
+        while ((item = reader.read()) != null) {
+            names.add(item.get(manufacture.name));
+        }
+        reader.close();
+
+        //then
+        assertThat(names).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void 조회결과가없어도_정상조회된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+
+        QuerydslNoOffsetNumberOptions<Tuple, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, 2, options, queryFactory -> queryFactory
+                .select(manufacture.id, manufacture.price)
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        reader.open(new ExecutionContext());
+
+        //when
+        Tuple read1 = reader.read();
+        reader.close();
+
+        //then
+        assertThat(read1).isNull();
+    }
+
+    @Test
+    public void 재시작시_마지막으로_읽은_key_다음부터_조회한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 4; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        int chunkSize = 2;
+        ExecutionContext executionContext = new ExecutionContext();
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = createTupleReader(txDate, chunkSize);
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> restarted = createTupleReader(txDate, chunkSize);
+        restarted.open(executionContext);
+
+        List<Long> prices = new ArrayList<>();
+        Tuple item;
+        while ((item = restarted.read()) != null) {
+            prices.add(item.get(manufacture.price));
+        }
+        restarted.close();
+
+        //then
+        assertThat(prices).containsExactly(3000L, 4000L);
+    }
+
+    @Test
+    public void meterRegistry가_있으면_페이지조회_지표가_기록된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 3; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        QuerydslSqlNoOffsetPagingItemReader<Tuple> reader = createTupleReader(txDate, 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        reader.setName("manufactureSqlReader");
+        reader.setMeterRegistry(registry);
+
+        reader.open(new ExecutionContext());
+
+        //when
+        while (reader.read() != null) {
+        }
+        reader.close();
+
+        //then
+        String prefix = "spring.batch.querydsl.reader";
+        assertThat(registry.get(prefix + ".key.lookup").tag("name", "manufactureSqlReader").timer().count()).isEqualTo(1);
+        assertThat(registry.get(prefix + ".fetch").tag("name", "manufactureSqlReader").timer().count()).isEqualTo(2);
+        assertThat(registry.get(prefix + ".rows").tag("name", "manufactureSqlReader").summary().totalAmount()).isEqualTo(3);
+    }
+
+    private QuerydslSqlNoOffsetPagingItemReader<Tuple> createTupleReader(LocalDate txDate, int chunkSize) {
+        QuerydslNoOffsetNumberOptions<Tuple, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        return new QuerydslSqlNoOffsetPagingItemReader<>(dataSource, configuration, chunkSize, options, queryFactory -> queryFactory
+                .select(manufacture.id, manufacture.price)
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+    }
+}
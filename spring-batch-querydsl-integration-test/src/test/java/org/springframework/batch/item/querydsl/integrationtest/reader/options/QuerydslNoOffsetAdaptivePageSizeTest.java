@@ -0,0 +1,59 @@
+package org.springframework.batch.item.querydsl.integrationtest.reader.options;
+
+import org.junit.Test;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetAdaptivePageSize;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuerydslNoOffsetAdaptivePageSizeTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void 목표보다_빠르면_최대_2배까지_늘린다() {
+        QuerydslNoOffsetAdaptivePageSize adaptivePageSize = new QuerydslNoOffsetAdaptivePageSize(10, 10000, 100, TimeUnit.MILLISECONDS);
+
+        int next = adaptivePageSize.nextPageSize(1000, 1000, 10 * MILLIS, -1);
+
+        assertThat(next).isEqualTo(2000);
+    }
+
+    @Test
+    public void 목표보다_느리면_줄이고_minPageSize_아래로는_줄이지_않는다() {
+        QuerydslNoOffsetAdaptivePageSize adaptivePageSize = new QuerydslNoOffsetAdaptivePageSize(800, 10000, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(adaptivePageSize.nextPageSize(1000, 1000, 125 * MILLIS, -1)).isEqualTo(800);
+        assertThat(adaptivePageSize.nextPageSize(1000, 1000, 1000 * MILLIS, -1)).isEqualTo(800);
+    }
+
+    @Test
+    public void maxPageSize_위로는_늘리지_않는다() {
+        QuerydslNoOffsetAdaptivePageSize adaptivePageSize = new QuerydslNoOffsetAdaptivePageSize(10, 1500, 100, TimeUnit.MILLISECONDS);
+
+        int next = adaptivePageSize.nextPageSize(1000, 1000, MILLIS, -1);
+
+        assertThat(next).isEqualTo(1500);
+    }
+
+    @Test
+    public void heapBudget을_넘지_않도록_줄인다() {
+        QuerydslNoOffsetAdaptivePageSize adaptivePageSize = new QuerydslNoOffsetAdaptivePageSize(10, 10000, 100, TimeUnit.MILLISECONDS);
+        adaptivePageSize.setHeapBudgetBytes(500 * 1024);
+
+        // row 당 1KB
+        int next = adaptivePageSize.nextPageSize(1000, 1000, 10 * MILLIS, 1000 * 1024);
+
+        assertThat(next).isEqualTo(500);
+    }
+
+    @Test
+    public void 마지막_페이지면_그대로_둔다() {
+        QuerydslNoOffsetAdaptivePageSize adaptivePageSize = new QuerydslNoOffsetAdaptivePageSize(10, 10000, 100, TimeUnit.MILLISECONDS);
+
+        int next = adaptivePageSize.nextPageSize(1000, 10, MILLIS, -1);
+
+        assertThat(next).isEqualTo(1000);
+    }
+}
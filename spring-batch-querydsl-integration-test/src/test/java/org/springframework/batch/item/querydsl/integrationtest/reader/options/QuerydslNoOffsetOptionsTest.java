@@ -1,8 +1,11 @@
 package org.springframework.batch.item.querydsl.integrationtest.reader.options;
 
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -12,12 +15,15 @@ import org.springframework.batch.item.querydsl.integrationtest.entity.Manufactur
 import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
 import org.springframework.batch.item.querydsl.integrationtest.job.QuerydslNoOffsetPagingItemReaderConfiguration;
 import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetComparableOptions;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetStringOptions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.time.LocalDate;
 import java.util.function.Function;
 
@@ -39,6 +45,9 @@ public class QuerydslNoOffsetOptionsTest {
     @Autowired
     private ManufactureRepository manufactureRepository;
 
+    @Autowired
+    private EntityManagerFactory emf;
+
     @After
     public void after() throws Exception {
         manufactureRepository.deleteAllInBatch();
@@ -110,6 +119,108 @@ public class QuerydslNoOffsetOptionsTest {
         assertThat(options.getLastId()).isEqualTo(expected1);
     }
 
+    @Test
+    public void groupBy가_없으면_ASC_첫key와_마지막key를_한번의_쿼리로_조회한다() {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        Manufacture first = manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+        Manufacture last = manufactureRepository.save(new Manufacture("c", 3000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate));
+
+        // when
+        long statements = countStatements(() -> options.initKeys(query, 0));
+
+        // then
+        assertThat(options.getCurrentId()).isEqualTo(first.getId());
+        assertThat(options.getLastId()).isEqualTo(last.getId());
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    public void groupBy가_없으면_DESC_첫key와_마지막key를_한번의_쿼리로_조회한다() {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        Manufacture last = manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 2000, 1, txDate));
+        Manufacture first = manufactureRepository.save(new Manufacture("c", 3000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.DESC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate));
+
+        // when
+        long statements = countStatements(() -> options.initKeys(query, 0));
+
+        // then
+        assertThat(options.getCurrentId()).isEqualTo(first.getId());
+        assertThat(options.getLastId()).isEqualTo(last.getId());
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    public void groupBy가_없으면_String_첫key와_마지막key를_한번의_쿼리로_조회한다() {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("b", 1000, 1, txDate));
+        manufactureRepository.save(new Manufacture("c", 1000, 1, txDate));
+
+        QuerydslNoOffsetStringOptions<Manufacture> asc =
+                new QuerydslNoOffsetStringOptions<>(manufacture.name, Expression.ASC);
+        QuerydslNoOffsetStringOptions<Manufacture> desc =
+                new QuerydslNoOffsetStringOptions<>(manufacture.name, Expression.DESC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate));
+
+        // when
+        long ascStatements = countStatements(() -> asc.initKeys(query, 0));
+        long descStatements = countStatements(() -> desc.initKeys(query, 0));
+
+        // then
+        assertThat(asc.getCurrentId()).isEqualTo("a");
+        assertThat(asc.getLastId()).isEqualTo("c");
+        assertThat(desc.getCurrentId()).isEqualTo("c");
+        assertThat(desc.getLastId()).isEqualTo("a");
+        assertThat(ascStatements).isEqualTo(1);
+        assertThat(descStatements).isEqualTo(1);
+    }
+
+    @Test
+    public void groupBy가_없으면_날짜_첫key와_마지막key를_한번의_쿼리로_조회한다() {
+        //given
+        LocalDate startDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", 1000, 1, startDate.plusDays(1)));
+        manufactureRepository.save(new Manufacture("a", 1000, 1, startDate));
+        manufactureRepository.save(new Manufacture("a", 1000, 1, startDate.plusDays(2)));
+
+        QuerydslNoOffsetComparableOptions<Manufacture, LocalDate> options =
+                new QuerydslNoOffsetComparableOptions<>(manufacture.createDate, Expression.DESC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq("a"));
+
+        // when
+        long statements = countStatements(() -> options.initKeys(query, 0));
+
+        // then
+        assertThat(options.getCurrentId()).isEqualTo(startDate.plusDays(2));
+        assertThat(options.getLastId()).isEqualTo(startDate);
+        assertThat(statements).isEqualTo(1);
+    }
+
     @Test
     public void groupBy절인지_확인_할수_있다() throws Exception {
         //given
@@ -131,6 +242,46 @@ public class QuerydslNoOffsetOptionsTest {
         assertThat(isGroupBy).isTrue();
     }
 
+    @Test
+    public void 조건에_group_by_문자열이_있어도_groupBy쿼리가_아니다() throws Exception {
+        //given
+        QuerydslNoOffsetStringOptions<Manufacture> options =
+                new QuerydslNoOffsetStringOptions<>(manufacture.name, Expression.DESC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.name.eq(Expressions.stringTemplate("'group by'")));
+
+        //when
+        boolean isGroupBy = options.isGroupByQuery(query);
+
+        //then
+        assertThat(isGroupBy).isFalse();
+    }
+
+    @Test
+    public void 정렬이_있는_쿼리도_key를_조회한다() {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        Manufacture first = manufactureRepository.save(new Manufacture("a", 2000, 1, txDate));
+        Manufacture last = manufactureRepository.save(new Manufacture("b", 1000, 1, txDate));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        JPAQuery<Manufacture> query = queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .orderBy(manufacture.price.asc());
+
+        // when
+        options.initKeys(query, 0);
+
+        // then
+        assertThat(options.getCurrentId()).isEqualTo(first.getId());
+        assertThat(options.getLastId()).isEqualTo(last.getId());
+    }
+
     @Test
     public void group만_있으면_false() throws Exception {
         //given
@@ -143,4 +294,87 @@ public class QuerydslNoOffsetOptionsTest {
         //then
         assertThat(isGroupBy).isFalse();
     }
+
+    @Test
+    public void 상위클래스에_선언된_필드도_key로_추출한다() throws Exception {
+        //given
+        long expected = 1000;
+        Manufacture item = new Manufacture("a", expected, 1, LocalDate.of(2020,10,12)) {};
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.price, Expression.ASC);
+
+        //when
+        Object key = options.extractKey(item);
+
+        //then
+        assertThat(key).isEqualTo(expected);
+    }
+
+    @Test
+    public void HibernateProxy는_실제_Entity에서_key를_추출한다() throws Exception {
+        //given
+        long expected = 1000;
+        Manufacture saved = manufactureRepository.save(new Manufacture("a", expected, 1, LocalDate.of(2020,10,12)));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.price, Expression.ASC);
+
+        EntityManager entityManager = emf.createEntityManager();
+        try {
+            Manufacture proxy = entityManager.getReference(Manufacture.class, saved.getId());
+
+            //when
+            Object key = options.extractKey(proxy);
+
+            //then
+            assertThat(key).isEqualTo(expected);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    public void keyExtractor가_있으면_keyExtractor로_추출한다() throws Exception {
+        //given
+        long expected = 1000;
+        Manufacture item = new Manufacture("a", expected, 1, LocalDate.of(2020,10,12));
+
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC, Manufacture::getPrice);
+
+        //when
+        Object key = options.extractKey(item);
+
+        //then
+        assertThat(key).isEqualTo(expected);
+    }
+
+    @Test
+    public void 복원한_key는_필드타입으로_변환된다() throws Exception {
+        //given
+        QuerydslNoOffsetNumberOptions<Manufacture, Long> options =
+                new QuerydslNoOffsetNumberOptions<>(manufacture.id, Expression.ASC);
+
+        //when
+        options.restoreKeys(1, 3);
+
+        //then
+        assertThat(options.getCurrentId()).isEqualTo(1L);
+        assertThat(options.getLastId()).isEqualTo(3L);
+    }
+
+    // Hibernate 가 실행한 SQL 수
+    private long countStatements(Runnable runnable) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        boolean enabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            runnable.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(enabled);
+        }
+    }
 }
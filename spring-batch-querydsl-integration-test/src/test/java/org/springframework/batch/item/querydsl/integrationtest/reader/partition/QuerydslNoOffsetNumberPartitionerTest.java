@@ -0,0 +1,113 @@
+package org.springframework.batch.item.querydsl.integrationtest.reader.partition;
+
+import com.querydsl.core.types.dsl.Expressions;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.integrationtest.job.QuerydslNoOffsetPagingItemReaderConfiguration;
+import org.springframework.batch.item.querydsl.reader.partition.QuerydslNoOffsetNumberPartitioner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = {TestBatchConfig.class, QuerydslNoOffsetPagingItemReaderConfiguration.class})
+public class QuerydslNoOffsetNumberPartitionerTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @After
+    public void after() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void id범위가_gridSize만큼_나눠진다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        long firstId = 0;
+        long lastId = 0;
+        for (int i = 0; i < 10; i++) {
+            Manufacture saved = manufactureRepository.save(new Manufacture("a", 1000, 1, txDate));
+            if (i == 0) {
+                firstId = saved.getId();
+            }
+            lastId = saved.getId();
+        }
+
+        QuerydslNoOffsetNumberPartitioner<Manufacture, Long> partitioner = new QuerydslNoOffsetNumberPartitioner<>(emf, manufacture.id, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        //then
+        assertThat(partitions).hasSize(3);
+        assertThat(partitions.get("partition0").getLong("minId")).isEqualTo(firstId);
+        assertThat(partitions.get("partition0").getLong("maxId")).isEqualTo(firstId + 3);
+        assertThat(partitions.get("partition1").getLong("minId")).isEqualTo(firstId + 4);
+        assertThat(partitions.get("partition2").getLong("maxId")).isEqualTo(lastId);
+    }
+
+    @Test
+    public void 조회결과가없으면_파티션이_없다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+
+        QuerydslNoOffsetNumberPartitioner<Manufacture, Long> partitioner = new QuerydslNoOffsetNumberPartitioner<>(emf, manufacture.id, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+        //then
+        assertThat(partitions).isEmpty();
+    }
+
+    @Test
+    public void long_전체_범위도_overflow없이_나눠진다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        manufactureRepository.save(new Manufacture("a", Long.MIN_VALUE, 1, txDate));
+        manufactureRepository.save(new Manufacture("a", Long.MAX_VALUE, 1, txDate));
+
+        QuerydslNoOffsetNumberPartitioner<Manufacture, Long> partitioner = new QuerydslNoOffsetNumberPartitioner<>(emf, manufacture.price, queryFactory -> queryFactory
+                .selectFrom(manufacture)
+                .where(manufacture.createDate.eq(txDate)));
+
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(2);
+
+        //then
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get("partition0").getLong("minId")).isEqualTo(Long.MIN_VALUE);
+        assertThat(partitions.get("partition0").getLong("maxId")).isEqualTo(-1L);
+        assertThat(partitions.get("partition1").getLong("minId")).isEqualTo(0L);
+        assertThat(partitions.get("partition1").getLong("maxId")).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void 정수가_아닌_key는_사용할수_없다() throws Exception {
+        assertThatThrownBy(() -> new QuerydslNoOffsetNumberPartitioner<>(emf, Expressions.numberPath(Double.class, "rate"), queryFactory -> queryFactory
+                .selectFrom(manufacture)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
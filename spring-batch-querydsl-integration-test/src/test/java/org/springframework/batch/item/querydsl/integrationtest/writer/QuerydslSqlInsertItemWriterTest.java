@@ -0,0 +1,124 @@
+package org.springframework.batch.item.querydsl.integrationtest.writer;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackup;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackupRepository;
+import org.springframework.batch.item.querydsl.writer.QuerydslSqlInsertItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.SManufactureBackup.manufactureBackup;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBatchConfig.class)
+public class QuerydslSqlInsertItemWriterTest {
+
+    @Autowired
+    private ManufactureBackupRepository manufactureBackupRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Configuration configuration = new Configuration(H2Templates.builder().build());
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureBackupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void chunk가_insert_배치로_저장된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        List<ManufactureBackup> items = Arrays.asList(
+                new ManufactureBackup(new Manufacture("a", 1000, 1, txDate)),
+                new ManufactureBackup(new Manufacture("b", 2000, 2, txDate)),
+                new ManufactureBackup(new Manufacture("c", 3000, 3, txDate)));
+
+        QuerydslSqlInsertItemWriter<ManufactureBackup> writer = createWriter();
+
+        //when
+        new TransactionTemplate(transactionManager).execute(status -> {
+            writer.write(items);
+            return null;
+        });
+
+        //then
+        List<ManufactureBackup> saved = manufactureBackupRepository.findAll();
+        assertThat(saved).hasSize(3);
+        assertThat(saved).extracting(ManufactureBackup::getPrice).containsExactlyInAnyOrder(1000L, 2000L, 3000L);
+        assertThat(saved).extracting(ManufactureBackup::getCreateDate).containsOnly(txDate);
+    }
+
+    @Test
+    public void bulkInsert이면_multi_row_insert로_저장된다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        List<ManufactureBackup> items = Arrays.asList(
+                new ManufactureBackup(new Manufacture("a", 1000, 1, txDate)),
+                new ManufactureBackup(new Manufacture("b", 2000, 2, txDate)));
+
+        QuerydslSqlInsertItemWriter<ManufactureBackup> writer = createWriter();
+        writer.setBulkInsert(true);
+
+        //when
+        new TransactionTemplate(transactionManager).execute(status -> {
+            writer.write(items);
+            return null;
+        });
+
+        //then
+        assertThat(manufactureBackupRepository.findAll())
+                .extracting(ManufactureBackup::getName)
+                .containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    public void 트랜잭션이_롤백되면_저장되지_않는다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        List<ManufactureBackup> items = Arrays.asList(
+                new ManufactureBackup(new Manufacture("a", 1000, 1, txDate)));
+
+        QuerydslSqlInsertItemWriter<ManufactureBackup> writer = createWriter();
+
+        //when
+        new TransactionTemplate(transactionManager).execute(status -> {
+            writer.write(items);
+            status.setRollbackOnly();
+            return null;
+        });
+
+        //then
+        assertThat(manufactureBackupRepository.findAll()).isEmpty();
+    }
+
+    private QuerydslSqlInsertItemWriter<ManufactureBackup> createWriter() {
+        QuerydslSqlInsertItemWriter<ManufactureBackup> writer = new QuerydslSqlInsertItemWriter<>(dataSource, configuration, manufactureBackup, (insert, item) -> insert
+                .set(manufactureBackup.originId, item.getOriginId())
+                .set(manufactureBackup.name, item.getName())
+                .set(manufactureBackup.price, item.getPrice())
+                .set(manufactureBackup.categoryNo, item.getCategoryNo())
+                .set(manufactureBackup.createDate, item.getCreateDate()));
+        writer.afterPropertiesSet();
+        return writer;
+    }
+}
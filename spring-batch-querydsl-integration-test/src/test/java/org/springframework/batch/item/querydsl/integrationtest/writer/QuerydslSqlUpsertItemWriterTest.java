@@ -0,0 +1,120 @@
+package org.springframework.batch.item.querydsl.integrationtest.writer;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.MySQLTemplates;
+import com.querydsl.sql.PostgreSQLTemplates;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackup;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackupRepository;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufacturePriceDto;
+import org.springframework.batch.item.querydsl.writer.QuerydslSqlUpsertItemWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.SManufactureBackup.manufactureBackup;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBatchConfig.class)
+public class QuerydslSqlUpsertItemWriterTest {
+
+    @Autowired
+    private ManufactureBackupRepository manufactureBackupRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureBackupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void H2는_merge로_같은_key의_row를_덮어쓴다() throws Exception {
+        //given
+        QuerydslSqlUpsertItemWriter<ManufacturePriceDto> writer = createWriter(new Configuration(H2Templates.builder().build()));
+        writer.setKeys(manufactureBackup.originId);
+        writer.afterPropertiesSet();
+
+        write(writer, Arrays.asList(new ManufacturePriceDto(1L, 1000), new ManufacturePriceDto(2L, 2000)));
+
+        //when
+        write(writer, Arrays.asList(new ManufacturePriceDto(1L, 1000), new ManufacturePriceDto(2L, 5000)));
+
+        //then
+        Map<Long, Long> prices = findPricesByOriginId();
+        assertThat(prices).hasSize(2);
+        assertThat(prices.get(1L)).isEqualTo(1000L);
+        assertThat(prices.get(2L)).isEqualTo(5000L);
+    }
+
+    @Test
+    public void MySQL은_on_duplicate_key_update로_같은_key의_row를_수정한다() throws Exception {
+        //given
+        // H2 의 MySQL 모드로 실행한다. key 는 테이블의 PK (id) 를 사용한다
+        QuerydslSqlUpsertItemWriter<ManufacturePriceDto> writer = createWriter(new Configuration(MySQLTemplates.builder().build()));
+        writer.afterPropertiesSet();
+
+        write(writer, Arrays.asList(new ManufacturePriceDto(1L, 1000), new ManufacturePriceDto(2L, 2000)));
+
+        //when
+        write(writer, Arrays.asList(new ManufacturePriceDto(2L, 5000), new ManufacturePriceDto(3L, 3000)));
+
+        //then
+        Map<Long, Long> prices = findPricesByOriginId();
+        assertThat(prices).hasSize(3);
+        assertThat(prices.get(1L)).isEqualTo(1000L);
+        assertThat(prices.get(2L)).isEqualTo(5000L);
+        assertThat(prices.get(3L)).isEqualTo(3000L);
+    }
+
+    @Test
+    public void 지원하지_않는_DB는_예외가_발생한다() throws Exception {
+        //given
+        QuerydslSqlUpsertItemWriter<ManufacturePriceDto> writer = createWriter(new Configuration(PostgreSQLTemplates.builder().build()));
+
+        //when //then
+        assertThatThrownBy(writer::afterPropertiesSet)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private QuerydslSqlUpsertItemWriter<ManufacturePriceDto> createWriter(Configuration configuration) {
+        return new QuerydslSqlUpsertItemWriter<>(dataSource, configuration, manufactureBackup, (clause, item) -> clause
+                .set(manufactureBackup.id, item.getManufactureId())
+                .set(manufactureBackup.originId, item.getManufactureId())
+                .set(manufactureBackup.name, "a")
+                .set(manufactureBackup.price, item.getPrice())
+                .set(manufactureBackup.categoryNo, 1)
+                .set(manufactureBackup.createDate, LocalDate.of(2020,10,12)));
+    }
+
+    private Map<Long, Long> findPricesByOriginId() {
+        return manufactureBackupRepository.findAll().stream()
+                .collect(Collectors.toMap(ManufactureBackup::getOriginId, ManufactureBackup::getPrice));
+    }
+
+    private void write(QuerydslSqlUpsertItemWriter<ManufacturePriceDto> writer, List<ManufacturePriceDto> items) {
+        new TransactionTemplate(transactionManager).execute(status -> {
+            writer.write(items);
+            return null;
+        });
+    }
+}
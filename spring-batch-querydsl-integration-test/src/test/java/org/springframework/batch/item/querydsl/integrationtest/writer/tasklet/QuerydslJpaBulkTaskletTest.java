@@ -0,0 +1,167 @@
+package org.springframework.batch.item.querydsl.integrationtest.writer.tasklet;
+
+import com.querydsl.core.types.dsl.Expressions;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.writer.tasklet.QuerydslJpaBulkTasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.QManufacture.manufacture;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBatchConfig.class)
+public class QuerydslJpaBulkTaskletTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void key구간마다_조건에_맞는_row를_update한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+        manufactureRepository.save(new Manufacture("b", 9000, 1, txDate.plusDays(1)));
+
+        QuerydslJpaBulkTasklet<Long> tasklet = QuerydslJpaBulkTasklet.update(emf, manufacture.id, 2,
+                manufacture.createDate.eq(txDate),
+                update -> update.set(manufacture.price, 0L));
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        //when
+        int windows = executeUntilFinished(tasklet, stepExecution);
+
+        //then
+        List<Manufacture> manufactures = manufactureRepository.findAll();
+        assertThat(manufactures).filteredOn(m -> m.getCreateDate().equals(txDate))
+                .extracting(Manufacture::getPrice)
+                .containsOnly(0L);
+        assertThat(manufactures).filteredOn(m -> m.getName().equals("b"))
+                .extracting(Manufacture::getPrice)
+                .containsOnly(9000L);
+        assertThat(windows).isEqualTo(3); // 5건을 2건 구간으로
+        assertThat(stepExecution.getWriteCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void key구간마다_조건에_맞는_row를_delete한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 5; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate.minusDays(1)));
+        }
+        manufactureRepository.save(new Manufacture("b", 9000, 1, txDate));
+
+        QuerydslJpaBulkTasklet<Long> tasklet = QuerydslJpaBulkTasklet.delete(emf, manufacture.id, 3,
+                manufacture.createDate.lt(txDate));
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        //when
+        executeUntilFinished(tasklet, stepExecution);
+
+        //then
+        assertThat(manufactureRepository.findAll())
+                .extracting(Manufacture::getName)
+                .containsExactly("b");
+        assertThat(stepExecution.getWriteCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void 재시작하면_commit된_다음_구간부터_실행한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 4; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        QuerydslJpaBulkTasklet<Long> tasklet = QuerydslJpaBulkTasklet.delete(emf, manufacture.id, 2,
+                manufacture.createDate.eq(txDate));
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        RepeatStatus first = execute(tasklet, stepExecution);
+
+        //when
+        StepExecution restarted = MetaDataInstanceFactory.createStepExecution(stepExecution.getExecutionContext());
+        executeUntilFinished(tasklet, restarted);
+
+        //then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(2);
+        assertThat(restarted.getWriteCount()).isEqualTo(2);
+        assertThat(manufactureRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    public void 정수가_아닌_key는_사용할수_없다() {
+        assertThatThrownBy(() -> QuerydslJpaBulkTasklet.delete(emf, Expressions.numberPath(Double.class, manufacture, "rate"), 2, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void 대상이_없으면_바로_종료한다() throws Exception {
+        //given
+        QuerydslJpaBulkTasklet<Long> tasklet = QuerydslJpaBulkTasklet.delete(emf, manufacture.id, 2,
+                manufacture.createDate.eq(LocalDate.of(2020,10,12)));
+
+        //when
+        RepeatStatus status = execute(tasklet, MetaDataInstanceFactory.createStepExecution());
+
+        //then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    }
+
+    private int executeUntilFinished(QuerydslJpaBulkTasklet<Long> tasklet, StepExecution stepExecution) {
+        int count = 0;
+        RepeatStatus status;
+        do {
+            status = execute(tasklet, stepExecution);
+            count++;
+        } while (status.isContinuable());
+        return count;
+    }
+
+    // TaskletStep 처럼 execute 마다 트랜잭션을 연다
+    private RepeatStatus execute(QuerydslJpaBulkTasklet<Long> tasklet, StepExecution stepExecution) {
+        StepContribution contribution = stepExecution.createStepContribution();
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        RepeatStatus status = new TransactionTemplate(transactionManager)
+                .execute(tx -> tasklet.execute(contribution, chunkContext));
+        stepExecution.apply(contribution);
+        return status;
+    }
+}
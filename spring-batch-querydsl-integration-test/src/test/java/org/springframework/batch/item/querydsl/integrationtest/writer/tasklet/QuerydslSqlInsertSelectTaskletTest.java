@@ -0,0 +1,179 @@
+package org.springframework.batch.item.querydsl.integrationtest.writer.tasklet;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.querydsl.integrationtest.TestBatchConfig;
+import org.springframework.batch.item.querydsl.integrationtest.entity.Manufacture;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackup;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureBackupRepository;
+import org.springframework.batch.item.querydsl.integrationtest.entity.ManufactureRepository;
+import org.springframework.batch.item.querydsl.writer.tasklet.QuerydslSqlInsertSelectTasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.SManufacture.manufacture;
+import static org.springframework.batch.item.querydsl.integrationtest.entity.SManufactureBackup.manufactureBackup;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = TestBatchConfig.class)
+public class QuerydslSqlInsertSelectTaskletTest {
+
+    @Autowired
+    private ManufactureRepository manufactureRepository;
+
+    @Autowired
+    private ManufactureBackupRepository manufactureBackupRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Configuration configuration = new Configuration(H2Templates.builder().build());
+
+    @After
+    public void tearDown() throws Exception {
+        manufactureRepository.deleteAllInBatch();
+        manufactureBackupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void key구간마다_insert_select로_복사한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            expectedIds.add(manufactureRepository.save(new Manufacture("a" + i, i * 1000, i, txDate)).getId());
+        }
+        manufactureRepository.save(new Manufacture("b", 9000, 1, txDate.plusDays(1)));
+
+        QuerydslSqlInsertSelectTasklet<Long> tasklet = createTasklet(txDate, 2);
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        //when
+        int windows = executeUntilFinished(tasklet, stepExecution);
+
+        //then
+        List<ManufactureBackup> backups = manufactureBackupRepository.findAll();
+        assertThat(backups).extracting(ManufactureBackup::getOriginId).containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(backups).extracting(ManufactureBackup::getPrice).containsExactlyInAnyOrder(1000L, 2000L, 3000L, 4000L, 5000L);
+        assertThat(backups).extracting(ManufactureBackup::getCreateDate).containsOnly(txDate);
+        assertThat(windows).isEqualTo(3); // 5건을 2건 구간으로
+        assertThat(stepExecution.getWriteCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void 재시작하면_commit된_다음_구간부터_복사한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int i = 1; i <= 4; i++) {
+            manufactureRepository.save(new Manufacture("a", i * 1000, 1, txDate));
+        }
+
+        QuerydslSqlInsertSelectTasklet<Long> tasklet = createTasklet(txDate, 2);
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        execute(tasklet, stepExecution);
+
+        //when
+        StepExecution restarted = MetaDataInstanceFactory.createStepExecution(stepExecution.getExecutionContext());
+        executeUntilFinished(tasklet, restarted);
+
+        //then
+        assertThat(manufactureBackupRepository.findAll())
+                .extracting(ManufactureBackup::getPrice)
+                .containsExactlyInAnyOrder(1000L, 2000L, 3000L, 4000L);
+        assertThat(restarted.getWriteCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void groupBy_쿼리도_key구간마다_복사한다() throws Exception {
+        //given
+        LocalDate txDate = LocalDate.of(2020,10,12);
+        for (int categoryNo = 1; categoryNo <= 3; categoryNo++) {
+            manufactureRepository.save(new Manufacture("a", 1000, categoryNo, txDate));
+            manufactureRepository.save(new Manufacture("b", 2000, categoryNo, txDate));
+        }
+
+        QuerydslSqlInsertSelectTasklet<Integer> tasklet = new QuerydslSqlInsertSelectTasklet<>(dataSource, configuration, manufacture.categoryNo, 2, manufactureBackup, queryFactory -> queryFactory
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate))
+                .groupBy(manufacture.categoryNo))
+                .column(manufactureBackup.categoryNo, manufacture.categoryNo)
+                .column(manufactureBackup.price, manufacture.price.sum());
+
+        //when
+        RepeatStatus first = execute(tasklet, MetaDataInstanceFactory.createStepExecution());
+
+        //then
+        assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE); // 1 ~ 3 을 2건 구간으로
+        assertThat(manufactureBackupRepository.findAll())
+                .extracting(ManufactureBackup::getCategoryNo)
+                .containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    public void 원본이_없으면_바로_종료한다() throws Exception {
+        //given
+        QuerydslSqlInsertSelectTasklet<Long> tasklet = createTasklet(LocalDate.of(2020,10,12), 2);
+
+        //when
+        RepeatStatus status = execute(tasklet, MetaDataInstanceFactory.createStepExecution());
+
+        //then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(manufactureBackupRepository.findAll()).isEmpty();
+    }
+
+    private QuerydslSqlInsertSelectTasklet<Long> createTasklet(LocalDate txDate, long windowSize) {
+        return new QuerydslSqlInsertSelectTasklet<>(dataSource, configuration, manufacture.id, windowSize, manufactureBackup, queryFactory -> queryFactory
+                .from(manufacture)
+                .where(manufacture.createDate.eq(txDate)))
+                .column(manufactureBackup.originId, manufacture.id)
+                .column(manufactureBackup.name, manufacture.name)
+                .column(manufactureBackup.price, manufacture.price)
+                .column(manufactureBackup.categoryNo, manufacture.categoryNo)
+                .column(manufactureBackup.createDate, manufacture.createDate);
+    }
+
+    private int executeUntilFinished(QuerydslSqlInsertSelectTasklet<Long> tasklet, StepExecution stepExecution) {
+        int count = 0;
+        RepeatStatus status;
+        do {
+            status = execute(tasklet, stepExecution);
+            count++;
+        } while (status.isContinuable());
+        return count;
+    }
+
+    // TaskletStep 처럼 execute 마다 트랜잭션을 연다
+    private RepeatStatus execute(QuerydslSqlInsertSelectTasklet<?> tasklet, StepExecution stepExecution) {
+        StepContribution contribution = stepExecution.createStepContribution();
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        RepeatStatus status = new TransactionTemplate(transactionManager)
+                .execute(tx -> tasklet.execute(contribution, chunkContext));
+        stepExecution.apply(contribution);
+        return status;
+    }
+}
@@ -0,0 +1,138 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 쿼리를 한번만 실행하고 Hibernate ScrollableResults 로 한 row 씩 읽는 Reader
+ * - 페이지 경계가 없어서 쿼리를 반복 실행하지 않는다
+ * - 한번에 가져오는 row 수는 fetchSize (JDBC fetch size) 로 제한된다
+ * - clearInterval 건 마다 영속성 컨텍스트를 비워서 1차 캐시가 계속 커지지 않게 한다
+ *
+ * Cursor 를 사용하므로 Thread Safe 하지 않다 (멀티쓰레드 Step 에서는 사용하지 않는다)
+ * 페이지가 없으므로 페이지 조회 지표 (QuerydslReaderMetrics) 는 기록하지 않는다
+ */
+public class QuerydslCursorItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    protected final Map<String, Object> jpaPropertyMap = new HashMap<>();
+    protected EntityManagerFactory entityManagerFactory;
+    protected EntityManager entityManager;
+    protected Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+    protected int fetchSize;
+    protected int clearInterval;
+
+    private EntityTransaction tx;
+    private CloseableIterator<T> iterator;
+    private int readCountSinceClear;
+
+    protected QuerydslCursorItemReader() {
+        setName(ClassUtils.getShortName(QuerydslCursorItemReader.class));
+    }
+
+    public QuerydslCursorItemReader(EntityManagerFactory entityManagerFactory,
+                                    int fetchSize,
+                                    Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        this(entityManagerFactory, fetchSize, fetchSize, queryFunction);
+    }
+
+    public QuerydslCursorItemReader(EntityManagerFactory entityManagerFactory,
+                                    int fetchSize,
+                                    int clearInterval,
+                                    Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        this();
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryFunction = queryFunction;
+        setFetchSize(fetchSize);
+        setClearInterval(clearInterval);
+    }
+
+    /**
+     * JDBC fetch size (드라이버가 한번에 가져오는 row 수) <br/>
+     * - MySQL 은 Integer.MIN_VALUE 로 지정해야 row 단위 스트리밍이 된다
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 영속성 컨텍스트를 비우는 주기 (읽은 row 수) <br/>
+     * - 0 이하: 비우지 않는다
+     */
+    public void setClearInterval(int clearInterval) {
+        this.clearInterval = clearInterval;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        Assert.notNull(queryFunction, "queryFunction is required");
+
+        entityManager = entityManagerFactory.createEntityManager(jpaPropertyMap);
+        if (entityManager == null) {
+            throw new DataAccessResourceFailureException("Unable to obtain an EntityManager");
+        }
+
+        // Cursor 를 여는 동안 같은 커넥션을 유지하기 위해 트랜잭션을 연다
+        tx = entityManager.getTransaction();
+        tx.begin();
+
+        JPAQuery<T> query = queryFunction.apply(new JPAQueryFactory(entityManager))
+                .setHint(QueryHints.FETCH_SIZE, fetchSize);
+
+        iterator = query.iterate();
+        readCountSinceClear = 0;
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        clearIfNeeded();
+
+        if (iterator.hasNext()) {
+            readCountSinceClear++;
+            return iterator.next();
+        }
+
+        return null;
+    }
+
+    /**
+     * 이미 반환한 item 들만 detach 되도록 다음 row 를 읽기 전에 비운다
+     */
+    private void clearIfNeeded() {
+        if (clearInterval > 0 && readCountSinceClear >= clearInterval) {
+            entityManager.clear();
+            readCountSinceClear = 0;
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (iterator != null) {
+            iterator.close();
+            iterator = null;
+        }
+
+        if (tx != null && tx.isActive()) {
+            tx.commit();
+        }
+        tx = null;
+
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+    }
+}
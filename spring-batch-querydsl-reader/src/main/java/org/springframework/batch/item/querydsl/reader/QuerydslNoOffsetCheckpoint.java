@@ -0,0 +1,71 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetOptions;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.Objects;
+
+/**
+ * NoOffset Reader 의 재시작 정보를 ExecutionContext 에 저장하고 복원한다
+ * - current.id: 마지막으로 읽은 item 의 key (복원하면 이 key 다음부터 조회한다)
+ * - last.id: 첫 페이지 조회시 찾은 마지막 key (upper bound)
+ *
+ * JPA / SQL NoOffset Reader 가 함께 사용한다
+ */
+class QuerydslNoOffsetCheckpoint<T> {
+    private static final String CURRENT_ID = "current.id";
+    private static final String LAST_ID = "last.id";
+
+    private final AbstractItemCountingItemStreamItemReader<T> reader;
+
+    private volatile T lastReadItem;
+    private boolean restored;
+
+    QuerydslNoOffsetCheckpoint(AbstractItemCountingItemStreamItemReader<T> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 재시작이면 마지막으로 읽은 key 와 upper bound 를 options 에 복원한다
+     * @return 복원 여부
+     */
+    boolean restore(ExecutionContext executionContext, QuerydslNoOffsetOptions<T> options) {
+        lastReadItem = null;
+        restored = reader.isSaveState() && executionContext.containsKey(reader.getExecutionContextKey(CURRENT_ID));
+
+        if (restored) {
+            options.restoreKeys(
+                    executionContext.get(reader.getExecutionContextKey(CURRENT_ID)),
+                    executionContext.get(reader.getExecutionContextKey(LAST_ID)));
+        }
+        return restored;
+    }
+
+    void save(ExecutionContext executionContext, QuerydslNoOffsetOptions<T> options) {
+        if (reader.isSaveState() && lastReadItem != null) {
+            executionContext.put(reader.getExecutionContextKey(CURRENT_ID), options.toSavedKey(options.extractKey(lastReadItem)));
+            executionContext.put(reader.getExecutionContextKey(LAST_ID), options.toSavedKey(options.getLastId()));
+        }
+    }
+
+    void read(T item) {
+        if (item != null) {
+            lastReadItem = item;
+        }
+    }
+
+    /**
+     * 복원된 key 로 where id > :savedKey 조회를 하므로 offset 계산은 필요 없다
+     * 첫 페이지 (>=, initKeys) 로 취급되지 않도록 page 만 1 로 맞춘다
+     * @return AbstractPagingItemReader.jumpToItem 에 넘길 itemIndex
+     */
+    int jumpIndex(int itemIndex, int pageSize) {
+        return restored ? pageSize : itemIndex;
+    }
+
+    static boolean isLastKey(QuerydslNoOffsetOptions<?> options) {
+        Object lastId = options.getLastId();
+        return lastId != null && Objects.deepEquals(options.getCurrentId(), lastId);
+    }
+}
@@ -1,19 +1,18 @@
 package org.springframework.batch.item.querydsl.reader;
 
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.CollectionUtils;
 
 import javax.persistence.EntityManagerFactory;
-import javax.persistence.EntityTransaction;
 import java.util.function.Function;
 
-public class QuerydslNoOffsetIdPagingItemReader<T, N extends Number & Comparable<?>> extends QuerydslPagingItemReader<T> {
-
-    private QuerydslNoOffsetNumberOptions<T, N> options;
+/**
+ * Number 타입 key 전용 NoOffset Reader
+ * 조회/재시작 로직은 QuerydslNoOffsetPagingItemReader 와 동일하다
+ */
+public class QuerydslNoOffsetIdPagingItemReader<T, N extends Number & Comparable<?>> extends QuerydslNoOffsetPagingItemReader<T> {
 
     private QuerydslNoOffsetIdPagingItemReader() {
         super();
@@ -24,47 +23,7 @@ public class QuerydslNoOffsetIdPagingItemReader<T, N extends Number & Comparable
                                               int pageSize,
                                               QuerydslNoOffsetNumberOptions<T, N> options,
                                               Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
-        super(entityManagerFactory, pageSize, queryFunction);
+        super(entityManagerFactory, pageSize, options, queryFunction);
         setName(ClassUtils.getShortName(QuerydslNoOffsetIdPagingItemReader.class));
-        this.options = options;
-    }
-
-    @Override
-    @SuppressWarnings("unchecked")
-    protected void doReadPage() {
-
-        EntityTransaction tx = getTxOrNull();
-
-        JPQLQuery<T> query = createQuery().limit(getPageSize());
-
-        initResults();
-
-        fetchQuery(query, tx);
-
-        resetCurrentIdIfNotLastPage();
-    }
-
-    @Override
-    protected JPAQuery<T> createQuery() {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        JPAQuery<T> query = queryFunction.apply(queryFactory);
-        options.initKeys(query, getPage()); // 제일 첫번째 페이징시 시작해야할 ID 찾기
-
-        return options.createQuery(query, getPage());
-    }
-
-    private void resetCurrentIdIfNotLastPage() {
-        if (isNotEmptyResults()) {
-            options.resetCurrentId(getLastItem());
-        }
-    }
-
-    // 조회결과가 Empty이면 results에 null이 담긴다
-    private boolean isNotEmptyResults() {
-        return !CollectionUtils.isEmpty(results) && results.get(0) != null;
-    }
-
-    private T getLastItem() {
-        return results.get(results.size() - 1);
     }
 }
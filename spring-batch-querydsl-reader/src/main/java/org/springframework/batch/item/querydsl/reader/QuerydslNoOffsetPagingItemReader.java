@@ -3,19 +3,41 @@ package org.springframework.batch.item.querydsl.reader;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetAdaptivePageSize;
 import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetOptions;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityTransaction;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
+/**
+ * 조회, 다음 key 갱신은 모두 doReadPage 안에서 일어나고
+ * doReadPage 는 AbstractPagingItemReader 의 lock 안에서만 호출된다.
+ * 그래서 멀티쓰레드 Step (TaskExecutor) 에서도 각 read() 는 서로 겹치지 않는 페이지의 item 을 받는다.
+ *
+ * 단, 멀티쓰레드 Step 은 Chunk 가 순서대로 commit 되지 않으므로 setSaveState(false) 로 사용한다.
+ */
 public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReader<T> {
 
-    private QuerydslNoOffsetOptions<T> options;
+    protected QuerydslNoOffsetOptions<T> options;
+    protected QuerydslNoOffsetAdaptivePageSize adaptivePageSize;
 
-    private QuerydslNoOffsetPagingItemReader() {
+    private final QuerydslNoOffsetCheckpoint<T> checkpoint = new QuerydslNoOffsetCheckpoint<>(this);
+
+    private final Object adaptiveLock = new Object();
+
+    private volatile boolean lastKeyReached;
+    private int nextPageSize;
+    private int adaptivePage;
+    private int adaptiveCurrent;
+
+    protected QuerydslNoOffsetPagingItemReader() {
         super();
         setName(ClassUtils.getShortName(QuerydslNoOffsetPagingItemReader.class));
     }
@@ -29,42 +51,156 @@ public class QuerydslNoOffsetPagingItemReader<T> extends QuerydslPagingItemReade
         this.options = options;
     }
 
+    /**
+     * 페이지 조회 시간 / 힙 사용량에 맞춰 페이지마다 limit 을 조절한다 <br/>
+     * - null: pageSize 고정 (기본값) <br/>
+     * - prefetch 와 함께 사용할 수 없다 <br/>
+     * (pageSize 는 그대로 두고 쿼리의 limit 만 바뀐다)
+     */
+    public void setAdaptivePageSize(QuerydslNoOffsetAdaptivePageSize adaptivePageSize) {
+        this.adaptivePageSize = adaptivePageSize;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        Assert.state(adaptivePageSize == null || prefetchDepth == 0, "adaptivePageSize can not be used with prefetch");
+
+        if (adaptivePageSize != null) {
+            nextPageSize = Math.max(adaptivePageSize.getMinPageSize(), Math.min(adaptivePageSize.getMaxPageSize(), getPageSize()));
+        }
+        adaptivePage = 0;
+        adaptiveCurrent = 0;
+
+        super.doOpen();
+    }
+
+    /**
+     * 재시작이면 마지막으로 읽은 key 와 upper bound 를 복원한다
+     * 복원된 key 이후부터 조회하기 때문에 이전 row 들을 다시 읽지 않는다
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        boolean restored = checkpoint.restore(executionContext, options);
+        lastKeyReached = restored && isLastKey();
+
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        checkpoint.save(executionContext, options);
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        T item = adaptivePageSize == null ? super.doRead() : readAdaptive();
+        checkpoint.read(item);
+        return item;
+    }
+
+    /**
+     * AbstractPagingItemReader 는 pageSize 로 페이지 경계를 판단하므로
+     * limit 이 바뀌는 동안에는 조회된 페이지 크기 (results.size()) 를 기준으로 다음 페이지를 조회한다
+     */
+    private T readAdaptive() {
+        synchronized (adaptiveLock) {
+            if (results == null || adaptiveCurrent >= results.size()) {
+                List<T> items = readPage(adaptivePage++);
+                initResults();
+                results.addAll(items);
+                adaptiveCurrent = 0;
+            }
+
+            return adaptiveCurrent < results.size() ? results.get(adaptiveCurrent++) : null;
+        }
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        int jumpIndex = checkpoint.jumpIndex(itemIndex, getPageSize());
+        if (adaptivePageSize == null) {
+            super.jumpToItem(jumpIndex);
+            return;
+        }
+
+        synchronized (adaptiveLock) {
+            adaptivePage = jumpIndex / getPageSize();
+        }
+    }
+
+    /**
+     * 다음 key 는 조회된 페이지의 마지막 item 으로 바로 정해지므로
+     * prefetch 를 사용하면 현재 Chunk 를 처리하는 동안 다음 페이지 조회가 겹쳐서 진행된다
+     *
+     * 마지막 key (lastId) 까지 읽었거나 pageSize 보다 적게 조회되었으면 더 읽을 row 가 없으므로
+     * 빈 결과만 조회하게 될 다음 쿼리는 실행하지 않는다
+     */
     @Override
     @SuppressWarnings("unchecked")
-    protected void doReadPage() {
+    protected List<T> readPage(int page) {
+        if (lastKeyReached) {
+            return Collections.emptyList();
+        }
+
+        int limit = adaptivePageSize == null ? getPageSize() : nextPageSize;
 
         EntityTransaction tx = getTxOrNull();
 
-        JPQLQuery<T> query = createQuery().limit(getPageSize());
+        JPQLQuery<T> query = createQuery(page).limit(limit);
+
+        List<T> items = adaptivePageSize == null ? fetchQuery(query, tx) : fetchAndMeasure(query, tx, limit);
 
-        initResults();
+        resetCurrentIdIfNotLastPage(items);
 
-        fetchQuery(query, tx);
+        lastKeyReached = items.size() < limit || isLastKey();
 
-        resetCurrentIdIfNotLastPage();
+        return items;
+    }
+
+    private List<T> fetchAndMeasure(JPQLQuery<T> query, EntityTransaction tx, int limit) {
+        long startBytes = adaptivePageSize.currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+
+        List<T> items = fetchQuery(query, tx);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocatedBytes = startBytes < 0 ? -1 : adaptivePageSize.currentThreadAllocatedBytes() - startBytes;
+        nextPageSize = adaptivePageSize.nextPageSize(limit, items.size(), elapsedNanos, allocatedBytes);
+
+        return items;
+    }
+
+    private boolean isLastKey() {
+        return QuerydslNoOffsetCheckpoint.isLastKey(options);
     }
 
     @Override
     protected JPAQuery<T> createQuery() {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        JPAQuery<T> query = queryFunction.apply(queryFactory);
-        options.initKeys(query, getPage()); // 제일 첫번째 페이징시 시작해야할 ID 찾기
+        return createQuery(getPage());
+    }
+
+    protected JPAQuery<T> createQuery(int page) {
+        JPAQuery<T> query = cloneQueryTemplate();
+        if (page == 0) {
+            getMetrics().recordKeyLookup(() -> options.initKeys(query, page)); // 제일 첫번째 페이징시 시작해야할 ID 찾기
+        }
 
-        return options.createQuery(query, getPage());
+        return options.createQuery(query, page);
     }
 
-    private void resetCurrentIdIfNotLastPage() {
-        if (isNotEmptyResults()) {
-            options.resetCurrentId(getLastItem());
+    private void resetCurrentIdIfNotLastPage(List<T> items) {
+        if (isNotEmptyResults(items)) {
+            options.resetCurrentId(getLastItem(items));
         }
     }
 
     // 조회결과가 Empty이면 results에 null이 담긴다
-    private boolean isNotEmptyResults() {
-        return !CollectionUtils.isEmpty(results) && results.get(0) != null;
+    private boolean isNotEmptyResults(List<T> items) {
+        return !CollectionUtils.isEmpty(items) && items.get(0) != null;
     }
 
-    private T getLastItem() {
-        return results.get(results.size() - 1);
+    private T getLastItem(List<T> items) {
+        return items.get(items.size() - 1);
     }
 }
@@ -0,0 +1,160 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * id 를 일정 폭 (windowWidth) 의 구간으로 나눠서 조회하는 NoOffset Reader
+ * where id > :cursor and id <= :cursor + windowWidth order by id limit :remaining
+ *
+ * createDate = :txDate 처럼 조건에 맞는 row 가 드문드문 있으면
+ * 일반 NoOffset 조회 (id > :cursor order by id limit N) 는 한 페이지를 채우려고 PK 인덱스를 아주 길게 훑을 수 있다.
+ * 구간 조회는 매 쿼리가 훑는 PK 범위가 windowWidth 로 제한된다.
+ *
+ * - 한 페이지는 pageSize 가 찰 때까지 여러 구간을 이어서 조회한다
+ * - 구간 폭은 조회된 row 밀도에 맞춰 한 구간에 pageSize 만큼 담기도록 조절한다 (한번에 최대 2배 / 절반)
+ * - ASC 정렬만 지원하고, group by 쿼리는 지원하지 않는다
+ * - 구간을 정수로 나누므로 key 는 Long, Integer, Short, Byte 만 사용할 수 있다
+ * - adaptivePageSize 는 지원하지 않는다
+ */
+public class QuerydslNoOffsetRangePagingItemReader<T, N extends Number & Comparable<?>> extends QuerydslNoOffsetPagingItemReader<T> {
+    private static final int MAX_GROWTH = 2;
+
+    private final QuerydslNoOffsetNumberOptions<T, N> numberOptions;
+    private final long initialWindowWidth;
+
+    private volatile long windowWidth;
+
+    public QuerydslNoOffsetRangePagingItemReader(EntityManagerFactory entityManagerFactory,
+                                                 int pageSize,
+                                                 long windowWidth,
+                                                 QuerydslNoOffsetNumberOptions<T, N> options,
+                                                 Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        super(entityManagerFactory, pageSize, options, queryFunction);
+        setName(ClassUtils.getShortName(QuerydslNoOffsetRangePagingItemReader.class));
+        Assert.isTrue(windowWidth > 0, "windowWidth must be greater than 0");
+        Assert.isTrue(options.getExpression().isAsc(), "QuerydslNoOffsetRangePagingItemReader supports ASC only");
+        Assert.isTrue(QuerydslNoOffsetNumberOptions.isIntegralKey(options.getField()), "QuerydslNoOffsetRangePagingItemReader supports integral keys only");
+
+        this.numberOptions = options;
+        this.initialWindowWidth = windowWidth;
+        this.windowWidth = windowWidth;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        Assert.state(adaptivePageSize == null, "QuerydslNoOffsetRangePagingItemReader does not support adaptivePageSize");
+        windowWidth = initialWindowWidth;
+
+        super.doOpen();
+
+        Assert.state(!numberOptions.isGroupByQuery(cloneQueryTemplate()), "QuerydslNoOffsetRangePagingItemReader does not support group by");
+    }
+
+    /**
+     * 한 페이지의 구간 조회들은 하나의 트랜잭션 / 영속성 컨텍스트에서 실행하고
+     * flush, clear 와 페이지 기록 (rows, empty.page) 은 페이지마다 한번만 한다
+     */
+    @Override
+    protected List<T> readPage(int page) {
+        EntityTransaction tx = getTxOrNull();
+
+        if (page == 0) {
+            initCursor();
+        }
+
+        return fetchPage(this::readWindows, tx);
+    }
+
+    /**
+     * currentId 는 마지막으로 조회한 key (다음 구간의 시작, 미포함) 이다
+     * 비어있는 구간을 지나가면 currentId 를 구간 끝으로 옮긴다
+     */
+    private List<T> readWindows() {
+        N lastId = numberOptions.getLastId();
+        if (numberOptions.getCurrentId() == null || lastId == null) {
+            return Collections.emptyList();
+        }
+
+        List<T> items = new ArrayList<>(getPageSize());
+        long last = lastId.longValue();
+
+        while (items.size() < getPageSize() && getCursor() < last) {
+            long cursor = getCursor();
+            long windowEnd = cursor > last - windowWidth ? last : cursor + windowWidth;
+            int remaining = getPageSize() - items.size();
+
+            List<T> found = readWindow(cursor, windowEnd, remaining);
+            items.addAll(found);
+
+            if (found.size() == remaining) {
+                numberOptions.resetCurrentId(found.get(found.size() - 1));
+                adjustWindowWidth(getCursor() - cursor, found.size());
+            } else {
+                numberOptions.setFirstAndLastId(toFieldType(windowEnd), lastId);
+                adjustWindowWidth(windowEnd - cursor, found.size());
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * 첫 key 도 조회되도록 cursor 를 첫 key 바로 앞에 둔다
+     */
+    private void initCursor() {
+        JPAQuery<T> query = cloneQueryTemplate();
+        getMetrics().recordKeyLookup(() -> numberOptions.initKeys(query, 0));
+
+        N firstId = numberOptions.getCurrentId();
+        if (firstId != null) {
+            numberOptions.setFirstAndLastId(toFieldType(firstId.longValue() - 1), numberOptions.getLastId());
+        }
+    }
+
+    private long getCursor() {
+        return numberOptions.getCurrentId().longValue();
+    }
+
+    private List<T> readWindow(long cursor, long windowEnd, int limit) {
+        NumberPath<N> field = numberOptions.getField();
+
+        return cloneQueryTemplate()
+                .where(field.gt(toFieldType(cursor)), field.loe(toFieldType(windowEnd)))
+                .orderBy(field.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private N toFieldType(long value) {
+        return NumberUtils.convertNumberToTargetClass(value, numberOptions.getField().getType());
+    }
+
+    /**
+     * 훑은 id 범위와 조회 건수로 밀도를 구해서 다음 구간에 pageSize 만큼 담기도록 폭을 조절한다
+     */
+    private void adjustWindowWidth(long scannedWidth, int rows) {
+        long min = Math.max(1, windowWidth / MAX_GROWTH);
+        long max = windowWidth > Long.MAX_VALUE / MAX_GROWTH ? Long.MAX_VALUE : windowWidth * MAX_GROWTH;
+        long target = rows == 0 ? max : (long) ((double) scannedWidth * getPageSize() / rows);
+        long next = Math.max(min, Math.min(max, target));
+
+        if (logger.isDebugEnabled() && next != windowWidth) {
+            logger.debug("Window Width= " + windowWidth + " -> " + next + " (scanned= " + scannedWidth + ", rows= " + rows + ")");
+        }
+
+        windowWidth = next;
+    }
+}
@@ -0,0 +1,136 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * 백그라운드 쓰레드에서 다음 페이지들을 미리 조회해두는 read-ahead 버퍼
+ * - 페이지는 startPage 부터 순서대로 하나의 쓰레드에서만 조회된다 (EntityManager 도 이 쓰레드 전용이 된다)
+ * - 최대 depth 개의 페이지만 미리 쌓아두고, 더 쌓이면 Reader 가 가져갈때까지 기다린다
+ * - pageSize 보다 적은 페이지를 조회하면 마지막 페이지로 보고 멈춘다
+ */
+class QuerydslPagePrefetcher<T> {
+    private static final Log logger = LogFactory.getLog(QuerydslPagePrefetcher.class);
+
+    private final int pageSize;
+    private final IntFunction<List<T>> pageReader;
+    private final BlockingQueue<Page<T>> pages;
+    private final ExecutorService executor;
+
+    private boolean exhausted;
+
+    QuerydslPagePrefetcher(String name, int depth, int pageSize, IntFunction<List<T>> pageReader) {
+        this.pageSize = pageSize;
+        this.pageReader = pageReader;
+        this.pages = new ArrayBlockingQueue<>(depth);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start(int startPage) {
+        executor.execute(() -> prefetch(startPage));
+    }
+
+    private void prefetch(int startPage) {
+        try {
+            for (int page = startPage; ; page++) {
+                List<T> items = pageReader.apply(page);
+                pages.put(new Page<>(items, null));
+
+                if (items.size() < pageSize) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            logger.error("Prefetch failed", e);
+            putError(e);
+        }
+    }
+
+    private void putError(Throwable error) {
+        try {
+            pages.put(new Page<>(null, error));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 다음 페이지를 꺼낸다. 아직 조회중이면 조회가 끝날때까지 기다린다
+     * 백그라운드 조회 중 발생한 예외는 Reader 쪽 쓰레드에서 그대로 다시 던진다
+     */
+    List<T> take() {
+        if (exhausted) {
+            return Collections.emptyList();
+        }
+
+        Page<T> page;
+        try {
+            page = pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the prefetched page", e);
+        }
+
+        if (page.error != null) {
+            exhausted = true;
+            throw toRuntimeException(page.error);
+        }
+
+        if (page.items.size() < pageSize) {
+            exhausted = true;
+        }
+
+        return page.items;
+    }
+
+    private static RuntimeException toRuntimeException(Throwable error) {
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+
+        return new IllegalStateException("Prefetch failed", error);
+    }
+
+    /**
+     * 조회중인 쓰레드를 멈추고 끝날때까지 기다린다
+     * 이후에 EntityManager 를 닫아야 조회중인 쿼리와 겹치지 않는다
+     */
+    void close() throws InterruptedException {
+        executor.shutdownNow();
+        while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Waiting for the prefetch thread to finish");
+            }
+        }
+        pages.clear();
+    }
+
+    private static class Page<T> {
+        private final List<T> items;
+        private final Throwable error;
+
+        private Page(List<T> items, Throwable error) {
+            this.items = items;
+            this.error = error;
+        }
+    }
+}
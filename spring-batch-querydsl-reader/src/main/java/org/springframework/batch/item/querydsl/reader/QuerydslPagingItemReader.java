@@ -3,27 +3,43 @@ package org.springframework.batch.item.querydsl.reader;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.batch.item.database.AbstractPagingItemReader;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.CollectionUtils;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityTransaction;
+import javax.persistence.FlushModeType;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
+    // org.hibernate.annotations.QueryHints.READ_ONLY (Hibernate 가 아닌 JPA 구현체는 무시한다)
+    private static final String READ_ONLY_HINT = "org.hibernate.readOnly";
+
     protected final Map<String, Object> jpaPropertyMap = new HashMap<>();
     protected EntityManagerFactory entityManagerFactory;
     protected EntityManager entityManager;
     protected Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+    protected JPAQueryFactory queryFactory;
     protected boolean transacted = true; // default value
+    protected boolean readOnly = false;
+    protected int prefetchDepth = 0; // 0: prefetch 하지 않음
+
+    protected MeterRegistry meterRegistry;
+
+    private String name;
+    private QuerydslReaderMetrics metrics = QuerydslReaderMetrics.NONE;
+    private JPAQuery<T> queryTemplate;
+    private QuerydslPagePrefetcher<T> prefetcher;
 
     protected QuerydslPagingItemReader() {
         setName(ClassUtils.getShortName(QuerydslPagingItemReader.class));
@@ -49,7 +65,7 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
     /**
      * Reader의 트랜잭션격리 옵션 <br/>
      * - false: 격리 시키지 않고, Chunk 트랜잭션에 의존한다 <br/>
-     * (hibernate.default_batch_fetch_size 옵션 사용가능) <br/>
+     * (hibernate.default_batch_fetch_size 옵션 사용가능, 조회한 Entity 는 다음 페이지 조회 전에 한번에 detach 된다) <br/>
      * - true: 격리 시킨다 <br/>
      * (Reader 조회 결과를 삭제하고 다시 조회했을때 삭제된게 반영되고 조회되길 원할때 사용한다.)
      */
@@ -57,28 +73,103 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
         this.transacted = transacted;
     }
 
+    /**
+     * 조회 결과를 수정하지 않는 Reader 의 읽기 전용 옵션 <br/>
+     * - false: 일반 Entity 로 조회한다 (기본값) <br/>
+     * - true: Entity 를 읽기 전용으로 조회해서 dirty checking 용 스냅샷을 만들지 않는다 <br/>
+     * (페이지마다 flush 없이 clear 만 하고 FlushModeType.COMMIT 으로 쿼리 전 자동 flush 도 하지 않는다. 조회한 Entity 를 수정해도 반영되지 않는다) <br/>
+     * (읽기 전용 조회는 Hibernate 쿼리 힌트라 다른 JPA 구현체에서는 일반 Entity 로 조회된다)
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * 다음 페이지를 미리 조회해둘 개수 <br/>
+     * - 0: 사용하지 않는다 (기본값) <br/>
+     * - 1 이상: 백그라운드 쓰레드가 현재 Chunk 를 처리하는 동안 다음 페이지들을 최대 prefetchDepth 개까지 미리 조회한다 <br/>
+     * (EntityManager 는 백그라운드 쓰레드 전용이 되어 조회한 Entity 는 detach 된 상태로 넘겨지고 lazy loading 을 할 수 없다. 미리 조회된 페이지만큼 메모리를 더 사용한다)
+     */
+    public void setPrefetchDepth(int prefetchDepth) {
+        Assert.isTrue(prefetchDepth >= 0, "prefetchDepth must not be negative");
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    /**
+     * 페이지 조회 단계별 시간과 조회 건수를 기록할 MeterRegistry (Reader 이름이 name 태그로 붙는다) <br/>
+     * - null: 기록하지 않는다 (기본값)
+     */
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        this.name = name;
+    }
+
+    /**
+     * open 할 때 setMeterRegistry 로 받은 MeterRegistry 로 만들어진다 (없으면 기록하지 않는다)
+     */
+    protected QuerydslReaderMetrics getMetrics() {
+        return metrics;
+    }
+
     @Override
     protected void doOpen() throws Exception {
         super.doOpen();
 
+        metrics = QuerydslReaderMetrics.of(meterRegistry, name);
+
         entityManager = entityManagerFactory.createEntityManager(jpaPropertyMap);
         if (entityManager == null) {
             throw new DataAccessResourceFailureException("Unable to obtain an EntityManager");
         }
+
+        if (readOnly) {
+            entityManager.setFlushMode(FlushModeType.COMMIT);
+        }
+
+        queryFactory = new JPAQueryFactory(entityManager);
+        queryTemplate = queryFunction.apply(queryFactory);
+
+        if (readOnly) {
+            queryTemplate.setHint(READ_ONLY_HINT, true);
+        }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void doReadPage() {
+        List<T> items = prefetchDepth > 0 ? takePrefetchedPage() : readPage(getPage());
+
+        initResults();
+
+        results.addAll(items);
+    }
+
+    /**
+     * page 번째 페이지를 조회한다
+     * prefetch 를 사용하면 백그라운드 쓰레드에서 page 순서대로 호출된다
+     */
+    @SuppressWarnings("unchecked")
+    protected List<T> readPage(int page) {
         EntityTransaction tx = getTxOrNull();
 
         JPQLQuery<T> query = createQuery()
-                .offset(getPage() * getPageSize())
+                .offset(page * getPageSize())
                 .limit(getPageSize());
 
-        initResults();
+        return fetchQuery(query, tx);
+    }
 
-        fetchQuery(query, tx);
+    private List<T> takePrefetchedPage() {
+        if (prefetcher == null) {
+            prefetcher = new QuerydslPagePrefetcher<>(ClassUtils.getShortName(getClass()), prefetchDepth, getPageSize(), this::readPage);
+            prefetcher.start(getPage());
+        }
+
+        return prefetcher.take();
     }
 
     protected EntityTransaction getTxOrNull() {
@@ -86,22 +177,38 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
             EntityTransaction tx = entityManager.getTransaction();
             tx.begin();
 
-            entityManager.flush();
-            entityManager.clear();
+            metrics.recordClear(() -> {
+                if (!readOnly) {
+                    entityManager.flush();
+                }
+                entityManager.clear();
+            });
             return tx;
         }
 
+        // 이전 페이지의 Entity 들은 이미 넘겨졌으므로 Entity 마다 detach 하지 않고 페이지 단위로 한번에 비운다
+        metrics.recordClear(entityManager::clear);
         return null;
     }
 
     protected JPAQuery<T> createQuery() {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        return queryFunction.apply(queryFactory);
+        return cloneQueryTemplate();
+    }
+
+    /**
+     * doOpen 에서 queryFunction 으로 한번만 만든 쿼리를 복사한다
+     * 페이지마다 바뀌는 건 파라미터 (key, offset, limit) 뿐이라 같은 JPQL 이 만들어지고 Hibernate 의 쿼리 플랜 캐시를 그대로 사용한다
+     */
+    protected JPAQuery<T> cloneQueryTemplate() {
+        return queryTemplate.clone();
     }
 
+    /**
+     * 페이지 버퍼는 pageSize 크기의 ArrayList 하나를 만들어 계속 재사용한다
+     */
     protected void initResults() {
-        if (CollectionUtils.isEmpty(results)) {
-            results = new CopyOnWriteArrayList<>();
+        if (results == null) {
+            results = new ArrayList<>(getPageSize());
         } else {
             results.clear();
         }
@@ -111,20 +218,36 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
      * where 의 조건은 id max/min 을 이용한 제한된 범위를 가지게 한다
      * @param query
      * @param tx
+     * @return 조회 결과
+     */
+    protected List<T> fetchQuery(JPQLQuery<T> query, EntityTransaction tx) {
+        return fetchPage(query::fetch, tx);
+    }
+
+    /**
+     * 한 페이지를 여러 쿼리로 나눠서 조회하는 Reader 를 위해 조회 방법을 받는다
+     * 페이지 단위로 조회 시간 / 건수를 기록하고 getTxOrNull 로 시작한 트랜잭션을 끝낸다
+     * @param fetch 페이지 조회
+     * @param tx
+     * @return 조회 결과
      */
-    protected void fetchQuery(JPQLQuery<T> query, EntityTransaction tx) {
+    protected List<T> fetchPage(Supplier<List<T>> fetch, EntityTransaction tx) {
+        List<T> queryResult = metrics.recordFetch(fetch);
+        metrics.recordPage(queryResult.size());
+
         if (transacted) {
-            results.addAll(query.fetch());
             if(tx != null) {
                 tx.commit();
             }
-        } else {
-            List<T> queryResult = query.fetch();
-            for (T entity : queryResult) {
-                entityManager.detach(entity);
-                results.add(entity);
-            }
         }
+
+        if (prefetchDepth > 0) {
+            // prefetch 쓰레드가 다음 페이지 조회에 EntityManager 를 계속 사용하므로 transacted 와 관계없이 넘겨주기 전에 비운다
+            // (Chunk 쓰레드는 detach 된 Entity 만 받으므로 Session 을 같이 쓰지 않는다)
+            entityManager.clear();
+        }
+
+        return queryResult;
     }
 
     @Override
@@ -133,6 +256,13 @@ public class QuerydslPagingItemReader<T> extends AbstractPagingItemReader<T> {
 
     @Override
     protected void doClose() throws Exception {
+        if (prefetcher != null) {
+            prefetcher.close();
+            prefetcher = null;
+        }
+
+        queryTemplate = null;
+        queryFactory = null;
         entityManager.close();
         super.doClose();
     }
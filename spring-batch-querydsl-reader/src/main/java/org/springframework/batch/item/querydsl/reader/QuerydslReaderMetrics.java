@@ -0,0 +1,98 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+
+/**
+ * Reader 의 페이지 조회 단계별 시간과 조회 건수를 MeterRegistry 에 기록한다
+ * - spring.batch.querydsl.reader.key.lookup: NoOffset 의 첫 key / 마지막 key 조회 시간
+ * - spring.batch.querydsl.reader.fetch: 페이지 조회 (query.fetch()) 시간
+ * - spring.batch.querydsl.reader.rows: 페이지당 조회 건수
+ * - spring.batch.querydsl.reader.empty.page: 조회 결과가 없었던 (마지막) 페이지 수
+ * - spring.batch.querydsl.reader.clear: 페이지 조회 전 영속성 컨텍스트 flush/clear 시간
+ *
+ * 모두 name 태그에 Reader 이름이 담긴다. MeterRegistry 가 없으면 기록하지 않는다
+ * 페이지 단위로 조회하는 Reader (QuerydslPagingItemReader 계열, QuerydslSqlNoOffsetPagingItemReader) 만 기록한다
+ */
+public class QuerydslReaderMetrics {
+    static final QuerydslReaderMetrics NONE = new QuerydslReaderMetrics();
+
+    private static final String PREFIX = "spring.batch.querydsl.reader";
+    private static final String NAME_TAG = "name";
+
+    private final Timer keyLookupTimer;
+    private final Timer fetchTimer;
+    private final Timer clearTimer;
+    private final DistributionSummary rowsSummary;
+    private final Counter emptyPageCounter;
+
+    private QuerydslReaderMetrics() {
+        this.keyLookupTimer = null;
+        this.fetchTimer = null;
+        this.clearTimer = null;
+        this.rowsSummary = null;
+        this.emptyPageCounter = null;
+    }
+
+    private QuerydslReaderMetrics(MeterRegistry registry, String readerName) {
+        this.keyLookupTimer = Timer.builder(PREFIX + ".key.lookup")
+                .description("Time to look up the first and last NoOffset keys")
+                .tag(NAME_TAG, readerName)
+                .register(registry);
+        this.fetchTimer = Timer.builder(PREFIX + ".fetch")
+                .description("Time to fetch one page")
+                .tag(NAME_TAG, readerName)
+                .register(registry);
+        this.clearTimer = Timer.builder(PREFIX + ".clear")
+                .description("Time to flush and clear the persistence context before a page")
+                .tag(NAME_TAG, readerName)
+                .register(registry);
+        this.rowsSummary = DistributionSummary.builder(PREFIX + ".rows")
+                .description("Rows fetched per page")
+                .tag(NAME_TAG, readerName)
+                .register(registry);
+        this.emptyPageCounter = Counter.builder(PREFIX + ".empty.page")
+                .description("Pages that returned no rows")
+                .tag(NAME_TAG, readerName)
+                .register(registry);
+    }
+
+    static QuerydslReaderMetrics of(MeterRegistry registry, String readerName) {
+        return registry == null ? NONE : new QuerydslReaderMetrics(registry, readerName);
+    }
+
+    public void recordKeyLookup(Runnable lookup) {
+        record(keyLookupTimer, lookup);
+    }
+
+    public <R> R recordFetch(Supplier<R> fetch) {
+        return fetchTimer == null ? fetch.get() : fetchTimer.record(fetch);
+    }
+
+    public void recordClear(Runnable clear) {
+        record(clearTimer, clear);
+    }
+
+    public void recordPage(int rows) {
+        if (rowsSummary == null) {
+            return;
+        }
+
+        rowsSummary.record(rows);
+        if (rows == 0) {
+            emptyPageCounter.increment();
+        }
+    }
+
+    private static void record(Timer timer, Runnable runnable) {
+        if (timer == null) {
+            runnable.run();
+        } else {
+            timer.record(runnable);
+        }
+    }
+}
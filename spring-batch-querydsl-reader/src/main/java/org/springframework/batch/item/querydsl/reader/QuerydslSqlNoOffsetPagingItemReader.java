@@ -0,0 +1,199 @@
+package org.springframework.batch.item.querydsl.reader;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.SQLQuery;
+import com.querydsl.sql.SQLQueryFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.AbstractPagingItemReader;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetOptions;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * JPA (EntityManager) 를 거치지 않고 Querydsl SQL (SQLQueryFactory) 로 조회하는 NoOffset Reader
+ * Entity 생성 / 영속성 컨텍스트 / JPQL 변환 비용이 없으므로 조회 결과를 그대로 옮기는 배치에 사용한다
+ *
+ * - options 의 field 는 Querydsl SQL 메타 모델 (RelationalPath) 의 컬럼을 사용한다
+ * - 조회 결과는 Projections (bean, constructor, Tuple) 로 매핑한다
+ * - 커넥션은 DataSourceUtils 로 가져오므로 Chunk 트랜잭션에 참여한다
+ * - 숫자 / 문자열 / Comparable / 복합 key options, ASC / DESC, group by, 재시작은 QuerydslNoOffsetPagingItemReader 와 같다
+ */
+public class QuerydslSqlNoOffsetPagingItemReader<T> extends AbstractPagingItemReader<T> {
+
+    protected DataSource dataSource;
+    protected Configuration configuration;
+    protected QuerydslNoOffsetOptions<T> options;
+    protected Function<SQLQueryFactory, SQLQuery<T>> queryFunction;
+    protected MeterRegistry meterRegistry;
+
+    private final QuerydslNoOffsetCheckpoint<T> checkpoint = new QuerydslNoOffsetCheckpoint<>(this);
+
+    private String name;
+    private QuerydslReaderMetrics metrics = QuerydslReaderMetrics.NONE;
+    private SQLQuery<T> queryTemplate;
+    private volatile boolean lastKeyReached;
+
+    public QuerydslSqlNoOffsetPagingItemReader(DataSource dataSource,
+                                               Configuration configuration,
+                                               int pageSize,
+                                               QuerydslNoOffsetOptions<T> options,
+                                               Function<SQLQueryFactory, SQLQuery<T>> queryFunction) {
+        setName(ClassUtils.getShortName(QuerydslSqlNoOffsetPagingItemReader.class));
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.options = options;
+        this.queryFunction = queryFunction;
+        setPageSize(pageSize);
+    }
+
+    /**
+     * 페이지 조회 시간과 조회 건수를 기록할 MeterRegistry (QuerydslPagingItemReader 와 같은 지표, clear 제외) <br/>
+     * - null: 기록하지 않는다 (기본값)
+     */
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void setName(String name) {
+        super.setName(name);
+        this.name = name;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(configuration, "configuration is required");
+        Assert.notNull(options, "options is required");
+        Assert.notNull(queryFunction, "queryFunction is required");
+    }
+
+    /**
+     * 쿼리는 한번만 만들고 페이지마다 커넥션을 바꿔서 복사한다
+     */
+    @Override
+    protected void doOpen() throws Exception {
+        super.doOpen();
+
+        metrics = QuerydslReaderMetrics.of(meterRegistry, name);
+        queryTemplate = queryFunction.apply(new SQLQueryFactory(configuration, dataSource));
+    }
+
+    /**
+     * 재시작이면 마지막으로 읽은 key 와 upper bound 를 복원한다
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        boolean restored = checkpoint.restore(executionContext, options);
+        lastKeyReached = restored && isLastKey();
+
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        super.update(executionContext);
+        checkpoint.save(executionContext, options);
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        T item = super.doRead();
+        checkpoint.read(item);
+        return item;
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        super.jumpToItem(checkpoint.jumpIndex(itemIndex, getPageSize()));
+    }
+
+    @Override
+    protected void doReadPage() {
+        List<T> items = readPage(getPage());
+
+        if (results == null) {
+            results = new ArrayList<>(getPageSize());
+        } else {
+            results.clear();
+        }
+
+        results.addAll(items);
+    }
+
+    protected List<T> readPage(int page) {
+        if (lastKeyReached) {
+            return Collections.emptyList();
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            SQLQuery<T> query = queryTemplate.clone(connection);
+            if (page == 0) {
+                metrics.recordKeyLookup(() -> initKeys(query));
+            }
+
+            SQLQuery<T> pageQuery = createQuery(query, page);
+            List<T> items = metrics.recordFetch(pageQuery::fetch);
+            metrics.recordPage(items.size());
+
+            if (!CollectionUtils.isEmpty(items)) {
+                options.resetCurrentId(items.get(items.size() - 1));
+            }
+            lastKeyReached = items.size() < getPageSize() || isLastKey();
+
+            return items;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * key 범위 조건과 정렬은 JPA Reader 와 같은 options 의 것을 사용한다
+     */
+    private SQLQuery<T> createQuery(SQLQuery<T> query, int page) {
+        BooleanExpression where = options.whereExpression(page);
+        if (where != null) {
+            query.where(where).orderBy(options.orderExpressions());
+        }
+
+        return query.limit(getPageSize());
+    }
+
+    /**
+     * 첫 key, 마지막 key 조회는 options 가 한다 (group by 여부에 따라 min/max 한번 또는 정렬 조회 두번)
+     */
+    private void initKeys(SQLQuery<T> query) {
+        options.initKeys(() -> {
+            SQLQuery<T> keyQuery = query.clone();
+            keyQuery.getMetadata().clearOrderBy();
+            return keyQuery;
+        }, options.isGroupByQuery(query.getMetadata()));
+    }
+
+    private boolean isLastKey() {
+        return QuerydslNoOffsetCheckpoint.isLastKey(options);
+    }
+
+    @Override
+    protected void doJumpToPage(int itemIndex) {
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        queryTemplate = null;
+        super.doClose();
+    }
+}
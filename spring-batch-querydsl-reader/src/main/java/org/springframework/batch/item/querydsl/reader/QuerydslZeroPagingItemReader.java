@@ -3,10 +3,12 @@ package org.springframework.batch.item.querydsl.reader;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityTransaction;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -31,9 +33,18 @@ public class QuerydslZeroPagingItemReader<T> extends QuerydslPagingItemReader<T>
         setPageSize(pageSize);
     }
 
+    /**
+     * 이전 Chunk 의 처리 결과가 반영된 뒤에 항상 처음부터 다시 조회해야 하므로 미리 조회할 수 없다
+     */
+    @Override
+    public void setPrefetchDepth(int prefetchDepth) {
+        Assert.isTrue(prefetchDepth == 0, "QuerydslZeroPagingItemReader does not support prefetch");
+        super.setPrefetchDepth(prefetchDepth);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
-    protected void doReadPage() {
+    protected List<T> readPage(int page) {
 
         EntityTransaction tx = getTxOrNull();
 
@@ -41,9 +52,7 @@ public class QuerydslZeroPagingItemReader<T> extends QuerydslPagingItemReader<T>
                 .offset(0)
                 .limit(getPageSize());
 
-        initResults();
-
-        fetchQuery(query, tx);
+        return fetchQuery(query, tx);
     }
 
 }
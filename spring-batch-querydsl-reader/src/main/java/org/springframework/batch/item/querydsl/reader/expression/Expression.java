@@ -2,6 +2,7 @@ package org.springframework.batch.item.querydsl.reader.expression;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.StringPath;
 
@@ -41,4 +42,12 @@ public enum Expression {
     public <N extends Number & Comparable<?>> OrderSpecifier<N> order (NumberPath<N> id) {
         return isAsc() ? id.asc() : id.desc();
     }
+
+    public <C extends Comparable<?>> BooleanExpression where (ComparableExpressionBase<C> id, int page, C currentId) {
+        return where.expression(id, page, currentId);
+    }
+
+    public <C extends Comparable<?>> OrderSpecifier<C> order (ComparableExpressionBase<C> id) {
+        return isAsc() ? id.asc() : id.desc();
+    }
 }
@@ -0,0 +1,15 @@
+package org.springframework.batch.item.querydsl.reader.expression;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+
+/**
+ * 컬럼 타입이 호출마다 달라지므로 (LocalDate, UUID ..) 메소드에 타입 파라미터를 둔다
+ * lambda 로는 구현할 수 없어 메소드 참조로 넘긴다
+ */
+@FunctionalInterface
+public interface WhereComparableFunction {
+
+    <C extends Comparable<?>> BooleanExpression apply(ComparableExpressionBase<C> id, int page, C currentId);
+
+}
@@ -1,6 +1,9 @@
 package org.springframework.batch.item.querydsl.reader.expression;
 
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.StringPath;
 
@@ -17,18 +20,35 @@ import com.querydsl.core.types.dsl.StringPath;
 public enum WhereExpression {
     GT(
             (id, page, currentId) -> page == 0? id.goe(currentId): id.gt(currentId),
-            (id, page, currentId) -> page == 0? id.goe(currentId): id.gt(currentId)),
+            (id, page, currentId) -> page == 0? id.goe(currentId): id.gt(currentId),
+            WhereExpression::greater),
     LT(
             (id, page, currentId) -> page == 0? id.loe(currentId): id.lt(currentId),
-            (id, page, currentId) -> page == 0? id.loe(currentId): id.lt(currentId)
+            (id, page, currentId) -> page == 0? id.loe(currentId): id.lt(currentId),
+            WhereExpression::less
     );
 
     private final WhereStringFunction string;
     private final WhereNumberFunction number;
+    private final WhereComparableFunction comparable;
 
-    WhereExpression(WhereStringFunction string, WhereNumberFunction number) {
+    WhereExpression(WhereStringFunction string, WhereNumberFunction number, WhereComparableFunction comparable) {
         this.string = string;
         this.number = number;
+        this.comparable = comparable;
+    }
+
+    private static <C extends Comparable<?>> BooleanExpression greater(ComparableExpressionBase<C> id, int page, C currentId) {
+        return compare(page == 0? Ops.GOE: Ops.GT, id, currentId);
+    }
+
+    private static <C extends Comparable<?>> BooleanExpression less(ComparableExpressionBase<C> id, int page, C currentId) {
+        return compare(page == 0? Ops.LOE: Ops.LT, id, currentId);
+    }
+
+    // ComparableExpressionBase 에는 gt/lt 가 없어서 Operation 으로 직접 만든다
+    private static BooleanExpression compare(Ops op, ComparableExpressionBase<?> id, Object currentId) {
+        return Expressions.booleanOperation(op, id, Expressions.constant(currentId));
     }
 
     public BooleanExpression expression (StringPath id, int page, String currentId) {
@@ -38,4 +58,8 @@ public enum WhereExpression {
     public <N extends Number & Comparable<?>>BooleanExpression expression (NumberPath<N> id, int page, N currentId) {
         return this.number.apply(id, page, currentId);
     }
+
+    public <C extends Comparable<?>> BooleanExpression expression (ComparableExpressionBase<C> id, int page, C currentId) {
+        return this.comparable.apply(id, page, currentId);
+    }
 }
@@ -0,0 +1,118 @@
+package org.springframework.batch.item.querydsl.reader.options;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NoOffset Reader 의 limit 을 페이지 조회 시간 (targetLatency) 과 힙 사용량 (heapBudgetBytes) 에 맞춰 조절한다
+ * - 조회가 목표보다 빠르면 늘리고, 느리면 줄인다 (한번에 최대 2배 / 절반까지만)
+ * - heapBudgetBytes 를 지정하면 페이지 조회 중 할당된 byte 로 row 당 크기를 추정해서 그 이하로 제한한다
+ *   (com.sun.management.ThreadMXBean 이 없는 JVM 에서는 조회 시간으로만 조절한다)
+ * - 결과는 항상 minPageSize ~ maxPageSize 사이다
+ *
+ * NoOffset 은 offset 계산이 없으므로 페이지마다 limit 이 달라져도 누락/중복이 없다
+ */
+public class QuerydslNoOffsetAdaptivePageSize {
+    private static final Log logger = LogFactory.getLog(QuerydslNoOffsetAdaptivePageSize.class);
+
+    private static final double MAX_GROWTH = 2.0;
+    private static final double MAX_SHRINK = 0.5;
+
+    private static final boolean SUN_THREAD_MX_BEAN_PRESENT =
+            ClassUtils.isPresent("com.sun.management.ThreadMXBean", QuerydslNoOffsetAdaptivePageSize.class.getClassLoader());
+
+    private final int minPageSize;
+    private final int maxPageSize;
+    private final long targetLatencyNanos;
+    private long heapBudgetBytes;
+
+    public QuerydslNoOffsetAdaptivePageSize(int minPageSize, int maxPageSize, long targetLatency, TimeUnit unit) {
+        Assert.isTrue(minPageSize > 0, "minPageSize must be greater than 0");
+        Assert.isTrue(minPageSize <= maxPageSize, "minPageSize must not be greater than maxPageSize");
+        Assert.isTrue(targetLatency > 0, "targetLatency must be greater than 0");
+
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.targetLatencyNanos = unit.toNanos(targetLatency);
+    }
+
+    /**
+     * 한 페이지가 사용할 수 있는 힙 크기 <br/>
+     * - 0 이하: 제한하지 않는다 (기본값) <br/>
+     * - 쓰레드별 할당량 측정을 지원하지 않는 JVM 에서는 무시된다
+     */
+    public void setHeapBudgetBytes(long heapBudgetBytes) {
+        this.heapBudgetBytes = heapBudgetBytes;
+    }
+
+    public int getMinPageSize() {
+        return minPageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    /**
+     * @param pageSize 이번 페이지의 limit
+     * @param rows 이번 페이지의 조회 건수
+     * @param elapsedNanos 이번 페이지 조회 시간
+     * @param allocatedBytes 이번 페이지 조회 중 할당된 byte (측정할 수 없으면 음수)
+     * @return 다음 페이지의 limit
+     */
+    public int nextPageSize(int pageSize, int rows, long elapsedNanos, long allocatedBytes) {
+        if (rows < pageSize) {
+            return pageSize; // 마지막 페이지라 다음 조회가 없다
+        }
+
+        double factor = elapsedNanos <= 0 ? MAX_GROWTH : (double) targetLatencyNanos / elapsedNanos;
+        double next = pageSize * Math.max(MAX_SHRINK, Math.min(MAX_GROWTH, factor));
+
+        if (heapBudgetBytes > 0 && allocatedBytes > 0) {
+            double bytesPerRow = (double) allocatedBytes / rows;
+            next = Math.min(next, heapBudgetBytes / bytesPerRow);
+        }
+
+        int nextPageSize = (int) Math.max(minPageSize, Math.min(maxPageSize, next));
+
+        if (logger.isDebugEnabled() && nextPageSize != pageSize) {
+            logger.debug("Page Size= " + pageSize + " -> " + nextPageSize
+                    + " (elapsed= " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms, allocated= " + allocatedBytes + "bytes)");
+        }
+
+        return nextPageSize;
+    }
+
+    /**
+     * 현재 쓰레드가 지금까지 할당한 byte, 측정할 수 없으면 -1
+     */
+    public long currentThreadAllocatedBytes() {
+        if (heapBudgetBytes <= 0 || !SUN_THREAD_MX_BEAN_PRESENT) {
+            return -1;
+        }
+
+        return SunThreadMXBeans.currentThreadAllocatedBytes(ManagementFactory.getThreadMXBean());
+    }
+
+    /**
+     * com.sun.management 가 있을 때만 로딩되도록 분리한다
+     */
+    private static class SunThreadMXBeans {
+        static long currentThreadAllocatedBytes(ThreadMXBean threadMXBean) {
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+
+            return -1;
+        }
+    }
+}
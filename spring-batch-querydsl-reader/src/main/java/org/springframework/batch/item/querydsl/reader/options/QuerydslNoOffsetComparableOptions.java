@@ -0,0 +1,92 @@
+package org.springframework.batch.item.querydsl.reader.options;
+
+import com.querydsl.core.FetchableQuery;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+
+import javax.annotation.Nonnull;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 비교 가능한 모든 컬럼 (DateTimePath&lt;LocalDateTime&gt;, ComparablePath&lt;UUID&gt; 등) 에 사용할 수 있는 NoOffset 옵션
+ */
+public class QuerydslNoOffsetComparableOptions<T, C extends Comparable<?>> extends QuerydslNoOffsetOptions<T> {
+
+    // 갱신은 Reader 의 lock 안에서, 조회는 다른 쓰레드 (update) 에서도 일어난다
+    private volatile C currentId;
+    private volatile C lastId;
+
+    private final ComparableExpressionBase<C> field;
+
+    public QuerydslNoOffsetComparableOptions(@Nonnull ComparableExpressionBase<C> field,
+                                             @Nonnull Expression expression) {
+        this(field, expression, null);
+    }
+
+    public QuerydslNoOffsetComparableOptions(@Nonnull ComparableExpressionBase<C> field,
+                                             @Nonnull Expression expression,
+                                             Function<T, C> keyExtractor) {
+        super(field, expression, keyExtractor);
+        this.field = field;
+    }
+
+    @Override
+    public C getCurrentId() {
+        return currentId;
+    }
+
+    @Override
+    public C getLastId() {
+        return lastId;
+    }
+
+    @Override
+    public void restoreKeys(Object currentId, Object lastId) {
+        this.currentId = toKeyType(currentId, field.getType());
+        this.lastId = toKeyType(lastId, field.getType());
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restore Current Key= "+this.currentId+", Last Key= "+ this.lastId);
+        }
+    }
+
+    @Override
+    public void initKeys(Supplier<? extends FetchableQuery<?, ?>> keyQuery, boolean groupBy) {
+        initFirstAndLastId(field, keyQuery, groupBy, this::setFirstAndLastId);
+    }
+
+    public void setFirstAndLastId(C firstId, C lastId) {
+        this.currentId = firstId;
+        this.lastId = lastId;
+    }
+
+    @Override
+    public BooleanExpression whereExpression(int page) {
+        if (currentId == null) {
+            return null;
+        }
+
+        return expression.where(field, page, currentId)
+                .and(Expressions.booleanOperation(expression.isAsc()? Ops.LOE : Ops.GOE, field, Expressions.constant(lastId)));
+    }
+
+    @Override
+    public OrderSpecifier<?>[] orderExpressions() {
+        return new OrderSpecifier<?>[]{expression.order(field)};
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void resetCurrentId(T item) {
+        currentId = (C) getFiledValue(item);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Current Select Key= " + currentId);
+        }
+    }
+}
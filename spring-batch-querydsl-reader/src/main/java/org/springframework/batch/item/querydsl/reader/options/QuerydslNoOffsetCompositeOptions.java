@@ -0,0 +1,246 @@
+package org.springframework.batch.item.querydsl.reader.options;
+
+import com.querydsl.core.FetchableQuery;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.util.Assert;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 여러 컬럼 (ex: createDate, id) 으로 NoOffset 조회를 하는 옵션
+ * 컬럼 순서대로 정렬하고, 다음 페이지는 row value 비교로 찾는다
+ * (a > :a) or (a = :a and b > :b)
+ *
+ * 컬럼 조합은 유일해야 하며 (보통 마지막 컬럼을 PK 로 둔다) null 이 없어야 한다
+ */
+public class QuerydslNoOffsetCompositeOptions<T> extends QuerydslNoOffsetOptions<T> {
+
+    private final Column<?>[] columns;
+
+    // 갱신은 Reader 의 lock 안에서, 조회는 다른 쓰레드 (update) 에서도 일어난다
+    private volatile Object[] currentKeys;
+    private volatile Object[] lastKeys;
+
+    public QuerydslNoOffsetCompositeOptions(@Nonnull Column<?>... columns) {
+        super(firstColumn(columns).path, firstColumn(columns).expression, null);
+        this.columns = columns;
+    }
+
+    private static Column<?> firstColumn(Column<?>[] columns) {
+        Assert.notEmpty(columns, "columns must not be empty");
+        return columns[0];
+    }
+
+    public static <C extends Comparable<?>> Column<C> column(@Nonnull ComparableExpressionBase<C> path,
+                                                             @Nonnull Expression expression) {
+        return new Column<>(path, expression, null);
+    }
+
+    /**
+     * @param keyExtractor item 에서 컬럼 값을 꺼내는 함수 (ex: Product::getCreateDate)
+     */
+    public static <T, C extends Comparable<?>> Column<C> column(@Nonnull ComparableExpressionBase<C> path,
+                                                                @Nonnull Expression expression,
+                                                                Function<T, C> keyExtractor) {
+        return new Column<>(path, expression, keyExtractor);
+    }
+
+    @Override
+    public Object[] getCurrentId() {
+        return currentKeys;
+    }
+
+    @Override
+    public Object[] getLastId() {
+        return lastKeys;
+    }
+
+    @Override
+    public void restoreKeys(Object currentId, Object lastId) {
+        this.currentKeys = toColumnTypes(currentId);
+        this.lastKeys = toColumnTypes(lastId);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restore Current Key= "+Arrays.toString(currentKeys)+", Last Key= "+ Arrays.toString(lastKeys));
+        }
+    }
+
+    /**
+     * 컬럼마다 toSavedKey 로 바꾼 key 를 List 로 저장한다 (JSON 직렬화 후 배열은 List 로 돌아온다)
+     */
+    @Override
+    public Object toSavedKey(Object key) {
+        if (!(key instanceof Object[])) {
+            return key;
+        }
+
+        Object[] keys = (Object[]) key;
+        List<Object> saved = new ArrayList<>(keys.length);
+        for (Object columnKey : keys) {
+            saved.add(super.toSavedKey(columnKey));
+        }
+        return saved;
+    }
+
+    /**
+     * 배열은 List 로 돌아올 수 있으므로 둘 다 받는다
+     */
+    private Object[] toColumnTypes(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        Object[] keys = value instanceof Collection ? ((Collection<?>) value).toArray() : (Object[]) value;
+        Object[] converted = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            converted[i] = toKeyType(keys[i], columns[i].path.getType());
+        }
+        return converted;
+    }
+
+    /**
+     * 첫 페이지는 하한 없이 정렬 순서의 처음부터 조회하고
+     * 마지막 key 는 정렬을 뒤집은 limit 1 조회로 찾는다 (group by 여부와 관계없이 같은 조회를 한다)
+     */
+    @Override
+    public void initKeys(Supplier<? extends FetchableQuery<?, ?>> keyQuery, boolean groupBy) {
+        Tuple last = keyQuery.get()
+                .select(paths())
+                .orderBy(orders(true))
+                .fetchFirst();
+
+        currentKeys = null;
+        lastKeys = last == null ? null : toKeys(last);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("First Key= "+Arrays.toString(currentKeys)+", Last Key= "+ Arrays.toString(lastKeys));
+        }
+    }
+
+    private Object[] toKeys(Tuple tuple) {
+        Object[] keys = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            keys[i] = tuple.get(i, Object.class);
+        }
+        return keys;
+    }
+
+    @Override
+    public BooleanExpression whereExpression(int page) {
+        if (lastKeys == null) {
+            return null;
+        }
+
+        BooleanExpression upperBound = compareRow(lastKeys, true, true);
+        if (currentKeys == null) {
+            return upperBound;
+        }
+
+        return compareRow(currentKeys, false, false).and(upperBound);
+    }
+
+    /**
+     * 정렬 순서 기준 row value 비교
+     * @param keys 비교할 key
+     * @param before true: keys 보다 앞선 row, false: keys 보다 뒤의 row
+     * @param inclusive keys 와 같은 row 포함 여부
+     */
+    private BooleanExpression compareRow(Object[] keys, boolean before, boolean inclusive) {
+        BooleanExpression result = null;
+        BooleanExpression equalsPrefix = null;
+
+        for (int i = 0; i < columns.length; i++) {
+            Column<?> column = columns[i];
+            boolean greater = column.expression.isAsc() != before;
+
+            BooleanExpression term = compare(column, greater ? Ops.GT : Ops.LT, keys[i]);
+            if (equalsPrefix != null) {
+                term = equalsPrefix.and(term);
+            }
+            result = result == null ? term : result.or(term);
+
+            BooleanExpression equals = compare(column, Ops.EQ, keys[i]);
+            equalsPrefix = equalsPrefix == null ? equals : equalsPrefix.and(equals);
+        }
+
+        return inclusive ? result.or(equalsPrefix) : result;
+    }
+
+    private BooleanExpression compare(Column<?> column, Ops op, Object key) {
+        return Expressions.booleanOperation(op, column.path, Expressions.constant(key));
+    }
+
+    @Override
+    public OrderSpecifier<?>[] orderExpressions() {
+        return orders(false);
+    }
+
+    private com.querydsl.core.types.Expression<?>[] paths() {
+        com.querydsl.core.types.Expression<?>[] paths = new com.querydsl.core.types.Expression<?>[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            paths[i] = columns[i].path;
+        }
+        return paths;
+    }
+
+    private OrderSpecifier<?>[] orders(boolean reverse) {
+        OrderSpecifier<?>[] orders = new OrderSpecifier<?>[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Column<?> column = columns[i];
+            orders[i] = column.expression.isAsc() != reverse ? column.path.asc() : column.path.desc();
+        }
+        return orders;
+    }
+
+    @Override
+    public void resetCurrentId(T item) {
+        currentKeys = extractKey(item);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Current Select Key= " + Arrays.toString(currentKeys));
+        }
+    }
+
+    @Override
+    public Object[] extractKey(T item) {
+        Object[] keys = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            keys[i] = columns[i].extract(item);
+        }
+        return keys;
+    }
+
+    public static class Column<C extends Comparable<?>> {
+        private final ComparableExpressionBase<C> path;
+        private final Expression expression;
+        private final Function<Object, ?> keyExtractor;
+
+        @SuppressWarnings("unchecked")
+        private Column(ComparableExpressionBase<C> path, Expression expression, Function<?, ?> keyExtractor) {
+            this.path = path;
+            this.expression = expression;
+
+            if (keyExtractor != null) {
+                this.keyExtractor = (Function<Object, ?>) keyExtractor;
+            } else {
+                this.keyExtractor = new QuerydslNoOffsetFieldExtractor<Object>(path);
+            }
+        }
+
+        private Object extract(Object item) {
+            return keyExtractor.apply(item);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.springframework.batch.item.querydsl.reader.options;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.hibernate.Hibernate;
+import org.springframework.util.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.function.Function;
+
+/**
+ * item 에서 fieldName 의 값을 꺼내는 기본 key 추출기
+ * - Hibernate Proxy 는 실제 Entity 로 풀어서 읽는다. Hibernate 가 classpath 에 없으면 (ex: Querydsl SQL Reader) item 을 그대로 읽는다
+ * - 상위 클래스 (@MappedSuperclass 등) 에 선언된 필드도 찾는다
+ * - 필드 탐색은 클래스별로 한번만 하고, 이후엔 캐시된 MethodHandle 로 읽는다
+ * - item 이 Tuple 이면 (select(a, b, ...)) 필드 대신 path 로 값을 꺼낸다
+ */
+public class QuerydslNoOffsetFieldExtractor<T> implements Function<T, Object> {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final boolean HIBERNATE_PRESENT =
+            ClassUtils.isPresent("org.hibernate.Hibernate", QuerydslNoOffsetFieldExtractor.class.getClassLoader());
+
+    protected Log logger = LogFactory.getLog(getClass());
+
+    private final String fieldName;
+    private final Expression<?> path;
+    private volatile Accessor accessor;
+
+    public QuerydslNoOffsetFieldExtractor(String fieldName) {
+        this.fieldName = fieldName;
+        this.path = null;
+    }
+
+    public QuerydslNoOffsetFieldExtractor(Expression<?> path) {
+        this.fieldName = QuerydslNoOffsetOptions.toFieldName(path);
+        this.path = path;
+    }
+
+    @Override
+    public Object apply(T item) {
+        if (item instanceof Tuple) {
+            return getTupleValue((Tuple) item);
+        }
+
+        Object target = HIBERNATE_PRESENT ? HibernateProxies.unproxy(item) : item;
+        Accessor current = accessor;
+
+        if (current == null || current.type != target.getClass()) {
+            current = new Accessor(target.getClass(), findGetter(target.getClass()));
+            accessor = current;
+        }
+
+        try {
+            return (Object) current.getter.invokeExact(target);
+        } catch (Throwable e) {
+            logger.error("Not Access Field= " + fieldName, e);
+            throw new IllegalArgumentException("Not Found or Not Access Field", e);
+        }
+    }
+
+    private Object getTupleValue(Tuple tuple) {
+        if (path == null) {
+            throw new IllegalArgumentException("Tuple item requires a path. fieldName= " + fieldName);
+        }
+
+        return tuple.get(path);
+    }
+
+    private MethodHandle findGetter(Class<?> type) {
+        try {
+            Field field = findField(type);
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            logger.error("Not Found or Not Access Field= " + fieldName, e);
+            throw new IllegalArgumentException("Not Found or Not Access Field", e);
+        }
+    }
+
+    private Field findField(Class<?> type) throws NoSuchFieldException {
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // 상위 클래스에서 다시 찾는다
+            }
+        }
+
+        throw new NoSuchFieldException(fieldName);
+    }
+
+    /**
+     * Hibernate 가 없을때 이 클래스를 로딩하면서 Hibernate 를 찾지 않도록 분리한다
+     */
+    private static class HibernateProxies {
+        private static Object unproxy(Object item) {
+            return Hibernate.unproxy(item);
+        }
+    }
+
+    private static class Accessor {
+        private final Class<?> type;
+        private final MethodHandle getter;
+
+        private Accessor(Class<?> type, MethodHandle getter) {
+            this.type = type;
+            this.getter = getter;
+        }
+    }
+}
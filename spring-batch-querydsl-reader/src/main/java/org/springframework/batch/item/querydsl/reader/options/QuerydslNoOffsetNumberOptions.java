@@ -1,99 +1,95 @@
 package org.springframework.batch.item.querydsl.reader.options;
 
+import com.querydsl.core.FetchableQuery;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.jpa.impl.JPAQuery;
 import org.springframework.batch.item.querydsl.reader.expression.Expression;
 
 import javax.annotation.Nonnull;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class QuerydslNoOffsetNumberOptions<T, N extends Number & Comparable<?>> extends QuerydslNoOffsetOptions <T>{
 
-    private N currentId;
-    private N lastId;
+    // 갱신은 Reader 의 lock 안에서, 조회는 다른 쓰레드 (update) 에서도 일어난다
+    private volatile N currentId;
+    private volatile N lastId;
 
     private final NumberPath<N> field;
 
     public QuerydslNoOffsetNumberOptions(@Nonnull NumberPath<N> field,
                                          @Nonnull Expression expression) {
-        super(field, expression);
+        this(field, expression, null);
+    }
+
+    public QuerydslNoOffsetNumberOptions(@Nonnull NumberPath<N> field,
+                                         @Nonnull Expression expression,
+                                         Function<T, N> keyExtractor) {
+        super(field, expression, keyExtractor);
         this.field = field;
     }
 
+    public NumberPath<N> getField() {
+        return field;
+    }
+
+    /**
+     * key 가 long 으로 손실없이 바뀌는 정수 타입 (Long, Integer, Short, Byte) 인지
+     * key 범위를 long 으로 나누는 곳 (Partitioner, 구간 조회) 에서 확인한다
+     */
+    public static boolean isIntegralKey(NumberPath<?> field) {
+        Class<?> type = field.getType();
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    @Override
     public N getCurrentId() {
         return currentId;
     }
 
+    @Override
     public N getLastId() {
         return lastId;
     }
 
     @Override
-    public void initKeys(JPAQuery<T> query, int page) {
-        if(page == 0) {
-            initFirstId(query);
-            initLastId(query);
-
-            if (logger.isDebugEnabled()) {
-                logger.debug("First Key= "+currentId+", Last Key= "+ lastId);
-            }
+    public void restoreKeys(Object currentId, Object lastId) {
+        this.currentId = toKeyType(currentId, field.getType());
+        this.lastId = toKeyType(lastId, field.getType());
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restore Current Key= "+this.currentId+", Last Key= "+ this.lastId);
         }
     }
 
     @Override
-    protected void initFirstId(JPAQuery<T> query) {
-        JPAQuery<T> clone = query.clone();
-        boolean isGroupByQuery = isGroupByQuery(clone);
-
-        if(isGroupByQuery) {
-            currentId = clone
-                    .select(field)
-                    .orderBy(expression.isAsc()? field.asc() : field.desc())
-                    .fetchFirst();
-        } else {
-            currentId = clone
-                    .select(expression.isAsc()? field.min(): field.max())
-                    .fetchFirst();
-        }
-
+    public void initKeys(Supplier<? extends FetchableQuery<?, ?>> keyQuery, boolean groupBy) {
+        initFirstAndLastId(field, keyQuery, groupBy, this::setFirstAndLastId);
     }
 
-    @Override
-    protected void initLastId(JPAQuery<T> query) {
-        JPAQuery<T> clone = query.clone();
-        boolean isGroupByQuery = isGroupByQuery(clone);
-
-        if(isGroupByQuery) {
-            lastId = clone
-                    .select(field)
-                    .orderBy(expression.isAsc()? field.desc() : field.asc())
-                    .fetchFirst();
-        } else {
-            lastId = clone
-                    .select(expression.isAsc()? field.max(): field.min())
-                    .fetchFirst();
-        }
+    /**
+     * 다른 곳에서 이미 찾은 첫 key, 마지막 key 로 조회 범위를 정한다
+     * (ExecutionContext 에 저장된 재시작 정보는 restoreKeys 로 복원한다)
+     */
+    public void setFirstAndLastId(N firstId, N lastId) {
+        this.currentId = firstId;
+        this.lastId = lastId;
     }
 
     @Override
-    public JPAQuery<T> createQuery(JPAQuery<T> query, int page) {
-        if(currentId == null) {
-            return query;
+    public BooleanExpression whereExpression(int page) {
+        if (currentId == null) {
+            return null;
         }
 
-        return query
-                .where(whereExpression(page))
-                .orderBy(orderExpression());
-    }
-
-    private BooleanExpression whereExpression(int page) {
         return expression.where(field, page, currentId)
                 .and(expression.isAsc()? field.loe(lastId) : field.goe(lastId));
     }
 
-    private OrderSpecifier<N> orderExpression() {
-        return expression.order(field);
+    @Override
+    public OrderSpecifier<?>[] orderExpressions() {
+        return new OrderSpecifier<?>[]{expression.order(field)};
     }
 
     @Override
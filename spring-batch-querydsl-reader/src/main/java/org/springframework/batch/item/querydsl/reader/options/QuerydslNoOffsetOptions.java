@@ -1,62 +1,253 @@
 package org.springframework.batch.item.querydsl.reader.options;
 
+import com.querydsl.core.FetchableQuery;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public abstract class QuerydslNoOffsetOptions<T> {
+    private static final DefaultConversionService KEY_CONVERSION_SERVICE = createKeyConversionService();
+
     protected Log logger = LogFactory.getLog(getClass());
 
     protected final String fieldName;
     protected final Expression expression;
+    protected final Function<T, ?> keyExtractor;
 
     public QuerydslNoOffsetOptions(@Nonnull Path field,
                                    @Nonnull Expression expression) {
-        String[] qField = field.toString().split("\\.");
-        this.fieldName = qField[qField.length-1];
+        this(field, expression, null);
+    }
+
+    /**
+     * @param keyExtractor item 에서 key 를 꺼내는 함수 (ex: Product::getId)
+     *                     null 이면 field 이름으로 찾은 필드 값을 사용한다
+     */
+    public QuerydslNoOffsetOptions(@Nonnull Path field,
+                                   @Nonnull Expression expression,
+                                   Function<T, ?> keyExtractor) {
+        this((com.querydsl.core.types.Expression<?>) field, expression, keyExtractor);
+    }
+
+    /**
+     * keyExtractor 가 null 이면 item 이 Tuple 일때는 field 로, 그 외에는 field 이름의 필드 값으로 key 를 찾는다
+     */
+    protected QuerydslNoOffsetOptions(@Nonnull com.querydsl.core.types.Expression<?> field,
+                                      @Nonnull Expression expression,
+                                      Function<T, ?> keyExtractor) {
+        this.fieldName = toFieldName(field);
         this.expression = expression;
+        this.keyExtractor = keyExtractor != null ? keyExtractor : new QuerydslNoOffsetFieldExtractor<>(field);
 
         if (logger.isDebugEnabled()) {
             logger.debug("fieldName= " + fieldName);
         }
     }
 
+    protected static String toFieldName(com.querydsl.core.types.Expression<?> field) {
+        String[] qField = field.toString().split("\\.");
+        return qField[qField.length-1];
+    }
+
     public String getFieldName() {
         return fieldName;
     }
 
-    public abstract void initKeys(JPAQuery<T> query, int page);
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public void initKeys(JPAQuery<T> query, int page) {
+        if(page == 0) {
+            initKeys(() -> cloneForKeyLookup(query), isGroupByQuery(query));
+        }
+    }
+
+    /**
+     * 첫 key, 마지막 key 를 조회한다
+     *
+     * JPAQuery 가 아닌 쿼리 (ex: Querydsl SQL 의 SQLQuery) 를 사용하는 Reader 도 같은 조회를 하도록 쿼리 종류와 무관하게 받는다
+     * @param keyQuery order by 를 지운 key 조회용 복제 쿼리를 만드는 함수 (조회마다 새로 만든다)
+     * @param groupBy group by 쿼리 여부
+     */
+    public abstract void initKeys(Supplier<? extends FetchableQuery<?, ?>> keyQuery, boolean groupBy);
+
+    /**
+     * 컬럼 하나로 된 key 의 첫 key, 마지막 key 를 조회한다
+     * group by 가 없으면 min, max 를 한번의 조회로, 있으면 정렬 후 1건 조회를 각각 한다
+     * @param firstAndLastId 조회한 첫 key, 마지막 key 를 받는다 (조회 대상이 없으면 둘 다 null)
+     */
+    protected <K extends Comparable<?>> void initFirstAndLastId(ComparableExpressionBase<K> field,
+                                                               Supplier<? extends FetchableQuery<?, ?>> keyQuery,
+                                                               boolean groupBy,
+                                                               BiConsumer<K, K> firstAndLastId) {
+        K min;
+        K max;
+
+        if (groupBy) {
+            min = findKey(keyQuery.get(), field, true);
+            max = findKey(keyQuery.get(), field, false);
+        } else {
+            Tuple keys = keyQuery.get()
+                    .select(aggregate(field, Ops.AggOps.MIN_AGG), aggregate(field, Ops.AggOps.MAX_AGG))
+                    .fetchFirst();
+
+            min = keys == null ? null : keys.get(0, field.getType());
+            max = keys == null ? null : keys.get(1, field.getType());
+        }
+
+        boolean isAsc = expression.isAsc();
+        firstAndLastId.accept(isAsc ? min : max, isAsc ? max : min);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("First Key= "+getCurrentId()+", Last Key= "+ getLastId());
+        }
+    }
 
-    protected abstract void initFirstId(JPAQuery<T> query);
-    protected abstract void initLastId(JPAQuery<T> query);
+    /**
+     * @param min true: 가장 작은 key, false: 가장 큰 key
+     */
+    private static <K extends Comparable<?>> K findKey(FetchableQuery<?, ?> query, ComparableExpressionBase<K> field, boolean min) {
+        return query
+                .select(field)
+                .orderBy(min ? field.asc() : field.desc())
+                .fetchFirst();
+    }
 
-    public abstract JPAQuery<T> createQuery(JPAQuery<T> query, int page);
+    private static <K extends Comparable<?>> ComparableExpression<K> aggregate(ComparableExpressionBase<K> field, Ops.AggOps op) {
+        return Expressions.comparableOperation(field.getType(), op, field);
+    }
+
+    public JPAQuery<T> createQuery(JPAQuery<T> query, int page) {
+        BooleanExpression where = whereExpression(page);
+        if (where == null) {
+            return query;
+        }
+
+        return query
+                .where(where)
+                .orderBy(orderExpressions());
+    }
+
+    /**
+     * page 번째 페이지의 key 범위 조건
+     * JPAQuery 가 아닌 쿼리 (ex: SQLQuery) 를 사용하는 Reader 도 같은 조건을 붙이도록 쿼리와 분리한다
+     * @return 조회 대상이 없어 key 범위가 정해지지 않았으면 null
+     */
+    public abstract BooleanExpression whereExpression(int page);
+
+    public abstract OrderSpecifier<?>[] orderExpressions();
 
     public abstract void resetCurrentId(T item);
 
-    protected Object getFiledValue(T item) {
-        try {
-            Field field = item.getClass().getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(item);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            logger.error("Not Found or Not Access Field= " + fieldName, e);
-            throw new IllegalArgumentException("Not Found or Not Access Field");
+    public abstract Object getCurrentId();
+
+    public abstract Object getLastId();
+
+    /**
+     * 재시작시 ExecutionContext 에 저장된 key 로 조회 범위를 복원한다
+     */
+    public abstract void restoreKeys(Object currentId, Object lastId);
+
+    /**
+     * 재시작시 ExecutionContext 에서 읽은 key 를 필드 타입으로 바꾼다
+     * ExecutionContext 는 JobRepository 에 직렬화되어 저장되므로 다시 읽으면 타입이 바뀌어 있을 수 있다 (ex: Long -> Integer)
+     */
+    protected static <K> K toKeyType(Object value, Class<K> type) {
+        return value == null ? null : KEY_CONVERSION_SERVICE.convert(value, type);
+    }
+
+    /**
+     * ExecutionContext 에 저장할 key
+     * 날짜/시간, UUID 는 JSON 으로 저장했다가 읽으면 원래 타입으로 돌아오지 않으므로
+     * 다시 parse 할 수 있는 toString() 값 (날짜/시간은 ISO-8601) 으로 저장한다
+     */
+    public Object toSavedKey(Object key) {
+        if (key instanceof TemporalAccessor || key instanceof UUID) {
+            return key.toString();
         }
+
+        return key;
     }
 
+    private static DefaultConversionService createKeyConversionService() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(String.class, LocalDate.class, LocalDate::parse);
+        conversionService.addConverter(String.class, LocalDateTime.class, LocalDateTime::parse);
+        conversionService.addConverter(String.class, LocalTime.class, LocalTime::parse);
+        conversionService.addConverter(String.class, OffsetDateTime.class, OffsetDateTime::parse);
+        conversionService.addConverter(String.class, ZonedDateTime.class, ZonedDateTime::parse);
+        conversionService.addConverter(String.class, Instant.class, Instant::parse);
+        conversionService.addConverter(String.class, Year.class, Year::parse);
+        conversionService.addConverter(String.class, YearMonth.class, YearMonth::parse);
+        return conversionService;
+    }
+
+    public Object extractKey(T item) {
+        return getFiledValue(item);
+    }
+
+    protected Object getFiledValue(T item) {
+        return keyExtractor.apply(item);
+    }
+
+    /**
+     * 쿼리를 문자열로 만들지 않고 QueryMetadata 의 group by 로 판단한다
+     */
     public boolean isGroupByQuery(JPAQuery<T> query) {
-        return isGroupByQuery(query.toString());
+        return isGroupByQuery(query.getMetadata());
+    }
+
+    /**
+     * JPAQuery 가 아닌 쿼리 (ex: SQLQuery) 의 group by 여부
+     */
+    public boolean isGroupByQuery(QueryMetadata metadata) {
+        return !metadata.getGroupBy().isEmpty();
     }
 
+    /**
+     * @deprecated 문자열 검사는 조건/alias 에 "group by" 가 있으면 잘못 판단한다. {@link #isGroupByQuery(JPAQuery)} 를 사용한다
+     */
+    @Deprecated
     public boolean isGroupByQuery(String sql) {
         return sql.contains("group by");
 
     }
 
+    /**
+     * key 조회용 복제 쿼리
+     * 원본의 order by 가 남아있으면 key 정렬 앞에 붙어서 인덱스를 타지 못하거나 (min/max 와 함께) 잘못된 쿼리가 되므로 지운다
+     */
+    protected JPAQuery<T> cloneForKeyLookup(JPAQuery<T> query) {
+        JPAQuery<T> clone = query.clone();
+        clone.getMetadata().clearOrderBy();
+        return clone;
+    }
+
 }
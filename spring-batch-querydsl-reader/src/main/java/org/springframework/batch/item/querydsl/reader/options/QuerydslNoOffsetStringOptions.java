@@ -1,99 +1,78 @@
 package org.springframework.batch.item.querydsl.reader.options;
 
+import com.querydsl.core.FetchableQuery;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.StringPath;
-import com.querydsl.jpa.impl.JPAQuery;
 import org.springframework.batch.item.querydsl.reader.expression.Expression;
 
 import javax.annotation.Nonnull;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class QuerydslNoOffsetStringOptions<T> extends QuerydslNoOffsetOptions<T> {
 
-    private String currentId;
-    private String lastId;
+    // 갱신은 Reader 의 lock 안에서, 조회는 다른 쓰레드 (update) 에서도 일어난다
+    private volatile String currentId;
+    private volatile String lastId;
 
     private final StringPath field;
 
     public QuerydslNoOffsetStringOptions(@Nonnull StringPath field,
                                          @Nonnull Expression expression) {
-        super(field, expression);
+        this(field, expression, null);
+    }
+
+    public QuerydslNoOffsetStringOptions(@Nonnull StringPath field,
+                                         @Nonnull Expression expression,
+                                         Function<T, String> keyExtractor) {
+        super(field, expression, keyExtractor);
         this.field = field;
     }
 
+    @Override
     public String getCurrentId() {
         return currentId;
     }
 
+    @Override
     public String getLastId() {
         return lastId;
     }
 
     @Override
-    public void initKeys(JPAQuery<T> query, int page) {
-        if(page == 0) {
-            initFirstId(query);
-            initLastId(query);
-
-            if (logger.isDebugEnabled()) {
-                logger.debug("First Key= "+currentId+", Last Key= "+ lastId);
-            }
+    public void restoreKeys(Object currentId, Object lastId) {
+        this.currentId = toKeyType(currentId, String.class);
+        this.lastId = toKeyType(lastId, String.class);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Restore Current Key= "+this.currentId+", Last Key= "+ this.lastId);
         }
     }
 
     @Override
-    protected void initFirstId(JPAQuery<T> query) {
-        JPAQuery<T> clone = query.clone();
-        boolean isGroupByQuery = isGroupByQuery(clone);
-
-        if(isGroupByQuery) {
-            currentId = clone
-                    .select(field)
-                    .orderBy(expression.isAsc()? field.asc() : field.desc())
-                    .fetchFirst();
-        } else {
-            currentId = clone
-                    .select(expression.isAsc()? field.min(): field.max())
-                    .fetchFirst();
-        }
-
+    public void initKeys(Supplier<? extends FetchableQuery<?, ?>> keyQuery, boolean groupBy) {
+        initFirstAndLastId(field, keyQuery, groupBy, this::setFirstAndLastId);
     }
 
-    @Override
-    protected void initLastId(JPAQuery<T> query) {
-        JPAQuery<T> clone = query.clone();
-        boolean isGroupByQuery = isGroupByQuery(clone);
-
-        if(isGroupByQuery) {
-            lastId = clone
-                    .select(field)
-                    .orderBy(expression.isAsc()? field.desc() : field.asc())
-                    .fetchFirst();
-        } else {
-            lastId = clone
-                    .select(expression.isAsc()? field.max(): field.min())
-                    .fetchFirst();
-        }
+    public void setFirstAndLastId(String firstId, String lastId) {
+        this.currentId = firstId;
+        this.lastId = lastId;
     }
 
     @Override
-    public JPAQuery<T> createQuery(JPAQuery<T> query, int page) {
+    public BooleanExpression whereExpression(int page) {
         if (currentId == null) {
-            return query;
+            return null;
         }
 
-        return query
-                .where(whereExpression(page))
-                .orderBy(orderExpression());
-    }
-
-    private BooleanExpression whereExpression(int page) {
         return expression.where(field, page, currentId)
                 .and(expression.isAsc()? field.loe(lastId) : field.goe(lastId));
     }
 
-    private OrderSpecifier<String> orderExpression() {
-        return expression.order(field);
+    @Override
+    public OrderSpecifier<?>[] orderExpressions() {
+        return new OrderSpecifier<?>[]{expression.order(field)};
     }
 
     @Override
@@ -0,0 +1,117 @@
+package org.springframework.batch.item.querydsl.reader.partition;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+
+import javax.annotation.Nonnull;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * NoOffset 조회 대상의 id 범위 [min, max] 를 gridSize 개로 나누는 Partitioner
+ * 각 파티션의 ExecutionContext 에는 minId, maxId 가 담긴다.
+ *
+ * Worker Step 의 Reader 는 @StepScope 로 선언하고
+ * where 절에 field.between(minId, maxId) 를 추가해 자신의 구간만 조회하도록 한다.
+ *
+ * id 범위를 long 으로 나누므로 field 는 정수 타입 (Long, Integer, Short, Byte) 만 사용할 수 있다.
+ */
+public class QuerydslNoOffsetNumberPartitioner<T, N extends Number & Comparable<?>> implements Partitioner {
+    public static final String DEFAULT_MIN_KEY = "minId";
+    public static final String DEFAULT_MAX_KEY = "maxId";
+    private static final String PARTITION_PREFIX = "partition";
+
+    protected Log logger = LogFactory.getLog(getClass());
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final NumberPath<N> field;
+    private final Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+
+    private String minKey = DEFAULT_MIN_KEY;
+    private String maxKey = DEFAULT_MAX_KEY;
+
+    public QuerydslNoOffsetNumberPartitioner(@Nonnull EntityManagerFactory entityManagerFactory,
+                                             @Nonnull NumberPath<N> field,
+                                             @Nonnull Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        Assert.isTrue(QuerydslNoOffsetNumberOptions.isIntegralKey(field), "field must be an integral type (Long, Integer, Short, Byte): " + field);
+        this.entityManagerFactory = entityManagerFactory;
+        this.field = field;
+        this.queryFunction = queryFunction;
+    }
+
+    public void setMinKey(String minKey) {
+        this.minKey = minKey;
+    }
+
+    public void setMaxKey(String maxKey) {
+        this.maxKey = maxKey;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        QuerydslNoOffsetNumberOptions<T, N> options = new QuerydslNoOffsetNumberOptions<>(field, Expression.ASC);
+        initKeys(options);
+
+        Map<String, ExecutionContext> result = new HashMap<>();
+        if (options.getCurrentId() == null) { // 조회 대상이 없으면 파티션도 만들지 않는다
+            return result;
+        }
+
+        // max - min 이 long 범위를 넘을 수 있으므로 (ex: Long.MIN_VALUE ~ Long.MAX_VALUE) BigInteger 로 계산한다
+        BigInteger min = BigInteger.valueOf(options.getCurrentId().longValue());
+        BigInteger max = BigInteger.valueOf(options.getLastId().longValue());
+        BigInteger targetSize = max.subtract(min)
+                .divide(BigInteger.valueOf(Math.max(gridSize, 1)))
+                .add(BigInteger.ONE);
+
+        int number = 0;
+        BigInteger start = min;
+        while (true) {
+            BigInteger end = start.add(targetSize).subtract(BigInteger.ONE).min(max);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(minKey, start.longValueExact());
+            context.putLong(maxKey, end.longValueExact());
+            result.put(PARTITION_PREFIX + number, context);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Partition" + number + " minId= " + start + ", maxId= " + end);
+            }
+
+            if (end.equals(max)) {
+                break;
+            }
+
+            start = end.add(BigInteger.ONE);
+            number++;
+        }
+
+        return result;
+    }
+
+    private void initKeys(QuerydslNoOffsetNumberOptions<T, N> options) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        if (entityManager == null) {
+            throw new DataAccessResourceFailureException("Unable to obtain an EntityManager");
+        }
+
+        try {
+            options.initKeys(queryFunction.apply(new JPAQueryFactory(entityManager)), 0);
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.springframework.batch.item.querydsl.writer;
+
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.RelationalPath;
+import com.querydsl.sql.dml.SQLInsertClause;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Chunk 의 item 들을 Querydsl SQL 의 insert 배치 (addBatch) 로 한번에 저장하는 Writer
+ *
+ * GenerationType.IDENTITY Entity 는 Hibernate 가 insert 배치를 사용하지 못해서 JpaItemWriter 로 저장하면 item 마다 insert 가 실행된다.
+ * 이 Writer 는 JPA 를 거치지 않고 Chunk 전체를 하나의 JDBC 배치로 실행한다.
+ *
+ * - 커넥션은 DataSourceUtils 로 가져오므로 Chunk 트랜잭션 (DataSourceTransactionManager, JpaTransactionManager) 에 참여한다
+ * - MySQL 은 jdbc url 에 rewriteBatchedStatements=true 를 지정해야 배치가 하나의 multi-row insert 로 전송된다
+ * - setBulkInsert(true) 를 사용하면 Querydsl 이 직접 multi-row insert (insert ... values (..), (..)) 를 만든다
+ */
+public class QuerydslSqlInsertItemWriter<T> implements ItemWriter<T>, InitializingBean {
+    private static final Log logger = LogFactory.getLog(QuerydslSqlInsertItemWriter.class);
+
+    private DataSource dataSource;
+    private Configuration configuration;
+    private RelationalPath<?> entity;
+    private BiConsumer<SQLInsertClause, T> columnMapper;
+    private boolean bulkInsert = false; // default value
+
+    public QuerydslSqlInsertItemWriter(DataSource dataSource,
+                                       Configuration configuration,
+                                       RelationalPath<?> entity,
+                                       BiConsumer<SQLInsertClause, T> columnMapper) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.entity = entity;
+        this.columnMapper = columnMapper;
+    }
+
+    /**
+     * Chunk 를 어떤 insert 로 실행할지 정한다 <br/>
+     * - false: 같은 insert 문을 JDBC 배치로 실행한다 (기본값) <br/>
+     * - true: 하나의 multi-row insert 로 실행한다 (지원하지 않는 SQLTemplates 면 JDBC 배치로 실행된다)
+     */
+    public void setBulkInsert(boolean bulkInsert) {
+        this.bulkInsert = bulkInsert;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(configuration, "configuration is required");
+        Assert.notNull(entity, "entity is required");
+        Assert.notNull(columnMapper, "columnMapper is required");
+    }
+
+    /**
+     * columnMapper 로 item 마다 컬럼 값을 지정 (insert.set(column, value)) 하고 배치에 추가한다
+     */
+    @Override
+    public void write(List<? extends T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            SQLInsertClause insert = createInsertClause(connection);
+            for (T item : items) {
+                columnMapper.accept(insert, item);
+                insert.addBatch();
+            }
+
+            long count = insert.execute();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Insert Items= " + items.size() + ", Affected Rows= " + count);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    protected SQLInsertClause createInsertClause(Connection connection) {
+        SQLInsertClause insert = new SQLInsertClause(connection, configuration, entity);
+        insert.setBatchToBulk(bulkInsert);
+        return insert;
+    }
+}
@@ -0,0 +1,165 @@
+package org.springframework.batch.item.querydsl.writer;
+
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.dml.StoreClause;
+import com.querydsl.core.types.Path;
+import com.querydsl.sql.ColumnMetadata;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.MySQLTemplates;
+import com.querydsl.sql.RelationalPath;
+import com.querydsl.sql.SQLTemplates;
+import com.querydsl.sql.dml.SQLInsertClause;
+import com.querydsl.sql.dml.SQLMergeClause;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Chunk 의 item 들을 key 가 같은 row 가 있으면 수정하고, 없으면 추가하는 (upsert) Writer
+ * 같은 txDate 로 Job 을 다시 실행해도 대상 테이블을 미리 비우지 않고 Chunk 마다 한번의 배치로 덮어쓴다.
+ *
+ * - H2: merge into ... key (keys) values (..)
+ * - MySQL / MariaDB: insert into ... values (..) on duplicate key update column = values(column)
+ * (keys 컬럼에 unique 인덱스가 있어야 한다)
+ *
+ * keys 를 지정하지 않으면 테이블의 PK 를 사용한다
+ */
+public class QuerydslSqlUpsertItemWriter<T> implements ItemWriter<T>, InitializingBean {
+    private static final Log logger = LogFactory.getLog(QuerydslSqlUpsertItemWriter.class);
+
+    private DataSource dataSource;
+    private Configuration configuration;
+    private RelationalPath<?> entity;
+    private BiConsumer<StoreClause<?>, T> columnMapper;
+    private List<Path<?>> keys;
+
+    public QuerydslSqlUpsertItemWriter(DataSource dataSource,
+                                       Configuration configuration,
+                                       RelationalPath<?> entity,
+                                       BiConsumer<StoreClause<?>, T> columnMapper) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.entity = entity;
+        this.columnMapper = columnMapper;
+    }
+
+    /**
+     * 같은 row 인지 판단할 컬럼 <br/>
+     * - 지정하지 않으면 테이블의 PK 컬럼 (기본값) <br/>
+     * - columnMapper 가 값을 지정해야 한다
+     */
+    public void setKeys(Path<?>... keys) {
+        this.keys = Arrays.asList(keys);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(configuration, "configuration is required");
+        Assert.notNull(entity, "entity is required");
+        Assert.notNull(columnMapper, "columnMapper is required");
+        Assert.state(isMerge() || isInsertOnDuplicateKey(),
+                "Upsert is supported only for H2Templates and MySQLTemplates: " + configuration.getTemplates().getClass().getSimpleName());
+
+        if (keys == null && entity.getPrimaryKey() != null) {
+            keys = new ArrayList<Path<?>>(entity.getPrimaryKey().getLocalColumns());
+        }
+        Assert.state(keys != null && !keys.isEmpty(), "keys are required when the entity has no primary key");
+    }
+
+    @Override
+    public void write(List<? extends T> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long count = isMerge() ? merge(connection, items) : insertOnDuplicateKey(connection, items);
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Upsert Items= " + items.size() + ", Affected Rows= " + count);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long merge(Connection connection, List<? extends T> items) {
+        SQLMergeClause merge = new SQLMergeClause(connection, configuration, entity)
+                .keys(keys.toArray(new Path<?>[0]));
+
+        for (T item : items) {
+            columnMapper.accept(merge, item);
+            merge.addBatch();
+        }
+
+        return merge.execute();
+    }
+
+    /**
+     * 수정할 컬럼은 첫 item 에서 columnMapper 가 지정한 컬럼 중 keys 를 제외한 컬럼이다
+     */
+    private long insertOnDuplicateKey(Connection connection, List<? extends T> items) {
+        ColumnRecordingInsertClause insert = new ColumnRecordingInsertClause(connection, configuration, entity);
+
+        for (int i = 0; i < items.size(); i++) {
+            columnMapper.accept(insert, items.get(i));
+            if (i == 0) {
+                insert.addFlag(Position.END, onDuplicateKeyUpdate(insert.getColumns()));
+            }
+            insert.addBatch();
+        }
+
+        return insert.execute();
+    }
+
+    private String onDuplicateKeyUpdate(List<Path<?>> columns) {
+        SQLTemplates templates = configuration.getTemplates();
+        List<String> updates = new ArrayList<>();
+        for (Path<?> column : columns) {
+            if (keys.contains(column)) {
+                continue;
+            }
+
+            String name = templates.quoteIdentifier(ColumnMetadata.getName(column));
+            updates.add(name + " = values(" + name + ")");
+        }
+        Assert.state(!updates.isEmpty(), "columnMapper must set at least one column besides keys");
+
+        return " on duplicate key update " + String.join(", ", updates);
+    }
+
+    private boolean isMerge() {
+        return configuration.getTemplates() instanceof H2Templates;
+    }
+
+    private boolean isInsertOnDuplicateKey() {
+        return configuration.getTemplates() instanceof MySQLTemplates;
+    }
+
+    /**
+     * addBatch 전까지 set 으로 지정된 컬럼을 꺼내기 위한 SQLInsertClause
+     */
+    private static class ColumnRecordingInsertClause extends SQLInsertClause {
+
+        ColumnRecordingInsertClause(Connection connection, Configuration configuration, RelationalPath<?> entity) {
+            super(connection, configuration, entity);
+        }
+
+        List<Path<?>> getColumns() {
+            return new ArrayList<>(columns);
+        }
+    }
+}
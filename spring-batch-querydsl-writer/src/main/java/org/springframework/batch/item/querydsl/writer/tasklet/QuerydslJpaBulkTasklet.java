@@ -0,0 +1,94 @@
+package org.springframework.batch.item.querydsl.writer.tasklet;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.util.Assert;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * 조건 (predicate) 에 맞는 row 들을 key 구간마다 JPA 벌크 update / delete 하는 Tasklet
+ * Reader 로 Entity 를 하나씩 읽어서 수정 / 삭제하지 않고 구간마다 한번의 쿼리로 처리한다
+ *
+ * update ... where key between :lo and :hi and (predicate)
+ * delete ... where key between :lo and :hi and (predicate)
+ *
+ * - 트랜잭션에 묶인 EntityManager 를 사용하므로 Step 의 transactionManager 는 JpaTransactionManager 여야 한다
+ * - 벌크 쿼리는 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 조회한 Entity 에는 반영되지 않는다
+ */
+public class QuerydslJpaBulkTasklet<N extends Number & Comparable<?>> extends QuerydslKeyRangeTasklet<N> {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityPath<?> entity;
+    private final Predicate predicate;
+    private final BiFunction<JPAQueryFactory, Predicate, Long> bulkQuery;
+
+    protected QuerydslJpaBulkTasklet(EntityManagerFactory entityManagerFactory,
+                                     NumberPath<N> key,
+                                     long windowSize,
+                                     Predicate predicate,
+                                     BiFunction<JPAQueryFactory, Predicate, Long> bulkQuery) {
+        super(key, windowSize);
+        Assert.notNull(entityManagerFactory, "entityManagerFactory is required");
+        this.queryFactory = new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        this.entity = entityOf(key);
+        this.predicate = predicate;
+        this.bulkQuery = bulkQuery;
+    }
+
+    /**
+     * @param predicate 수정할 row 의 조건 (null 이면 전체)
+     * @param setter 수정할 컬럼 (ex: update -> update.set(product.status, DONE))
+     */
+    public static <N extends Number & Comparable<?>> QuerydslJpaBulkTasklet<N> update(EntityManagerFactory entityManagerFactory,
+                                                                                     NumberPath<N> key,
+                                                                                     long windowSize,
+                                                                                     Predicate predicate,
+                                                                                     Consumer<JPAUpdateClause> setter) {
+        EntityPath<?> entity = entityOf(key);
+        return new QuerydslJpaBulkTasklet<>(entityManagerFactory, key, windowSize, predicate, (queryFactory, where) -> {
+            JPAUpdateClause update = queryFactory.update(entity).where(where);
+            setter.accept(update);
+            return update.execute();
+        });
+    }
+
+    /**
+     * @param predicate 삭제할 row 의 조건 (null 이면 전체)
+     */
+    public static <N extends Number & Comparable<?>> QuerydslJpaBulkTasklet<N> delete(EntityManagerFactory entityManagerFactory,
+                                                                                     NumberPath<N> key,
+                                                                                     long windowSize,
+                                                                                     Predicate predicate) {
+        EntityPath<?> entity = entityOf(key);
+        return new QuerydslJpaBulkTasklet<>(entityManagerFactory, key, windowSize, predicate, (queryFactory, where) -> queryFactory
+                .delete(entity)
+                .where(where)
+                .execute());
+    }
+
+    @Override
+    protected void initKeys(QuerydslNoOffsetNumberOptions<?, N> keyRange) {
+        keyRange.initKeys(() -> queryFactory
+                .from(entity)
+                .where(predicate), false);
+    }
+
+    @Override
+    protected long executeWindow(Predicate window) {
+        return bulkQuery.apply(queryFactory, ExpressionUtils.allOf(window, predicate));
+    }
+
+    private static EntityPath<?> entityOf(NumberPath<?> key) {
+        Assert.isInstanceOf(EntityPath.class, key.getRoot(), "key must be a field of a Querydsl entity path: " + key);
+        return (EntityPath<?>) key.getRoot();
+    }
+}
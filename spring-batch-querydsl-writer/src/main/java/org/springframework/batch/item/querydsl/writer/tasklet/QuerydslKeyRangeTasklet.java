@@ -0,0 +1,110 @@
+package org.springframework.batch.item.querydsl.writer.tasklet;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.querydsl.reader.expression.Expression;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * key 의 최소값 ~ 최대값을 windowSize 크기의 구간으로 나눠서 구간마다 한번의 벌크 쿼리를 실행하는 Tasklet
+ * where key between :lo and :hi and (predicate)
+ *
+ * - execute 한번에 한 구간만 실행하고 CONTINUABLE 을 반환하므로 구간마다 Step 트랜잭션이 commit 된다
+ * (row lock 은 한 구간 동안만 유지된다)
+ * - 다음 구간의 시작 key 는 StepExecution 의 ExecutionContext 에 구간 실행과 같은 트랜잭션으로 저장되므로
+ * 실패 후 재시작하면 commit 된 다음 구간부터 실행한다
+ * - 처리된 row 수는 StepContribution 의 writeCount 에 더해진다
+ * - 구간을 long 으로 나누므로 key 는 Long, Integer, Short, Byte 만 사용할 수 있다
+ */
+public abstract class QuerydslKeyRangeTasklet<N extends Number & Comparable<?>> implements Tasklet {
+    protected final Log logger = LogFactory.getLog(getClass());
+
+    private static final String LOW_KEY = "low.key";
+    private static final String MAX_KEY = "max.key";
+
+    protected final NumberPath<N> key;
+    protected final long windowSize;
+    private final QuerydslNoOffsetNumberOptions<Object, N> keyRange;
+    private String name;
+
+    protected QuerydslKeyRangeTasklet(NumberPath<N> key, long windowSize) {
+        Assert.notNull(key, "key is required");
+        Assert.isTrue(QuerydslNoOffsetNumberOptions.isIntegralKey(key), "key must be an integral number (Long, Integer, Short, Byte): " + key);
+        Assert.isTrue(windowSize > 0, "windowSize must be greater than 0");
+        this.key = key;
+        this.windowSize = windowSize;
+        this.keyRange = new QuerydslNoOffsetNumberOptions<>(key, Expression.ASC);
+        this.name = ClassUtils.getShortName(getClass());
+    }
+
+    /**
+     * ExecutionContext 에 저장되는 key 의 prefix (기본값: 클래스 이름)
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        if (!executionContext.containsKey(getKey(MAX_KEY))) {
+            initKeys(keyRange);
+            N min = keyRange.getCurrentId();
+            N max = keyRange.getLastId();
+            if (min == null || max == null) {
+                return RepeatStatus.FINISHED;
+            }
+
+            executionContext.putLong(getKey(LOW_KEY), min.longValue());
+            executionContext.putLong(getKey(MAX_KEY), max.longValue());
+        }
+
+        long low = executionContext.getLong(getKey(LOW_KEY));
+        long max = executionContext.getLong(getKey(MAX_KEY));
+        if (low > max) {
+            return RepeatStatus.FINISHED;
+        }
+
+        long high = low > max - (windowSize - 1) ? max : low + windowSize - 1;
+        long count = executeWindow(key.between(toKeyType(low), toKeyType(high)));
+        contribution.incrementWriteCount(Math.toIntExact(count));
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Window= " + low + " ~ " + high + ", Affected Rows= " + count);
+        }
+
+        executionContext.putLong(getKey(LOW_KEY), high + 1);
+        return high >= max ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * 대상 row 들의 첫 key, 마지막 key 를 NoOffset Reader 와 같은 조회 (keyRange.initKeys) 로 찾는다
+     * @param keyRange ASC 옵션이므로 조회 후 getCurrentId() 가 최소값, getLastId() 가 최대값이다
+     */
+    protected abstract void initKeys(QuerydslNoOffsetNumberOptions<?, N> keyRange);
+
+    /**
+     * @param window key between :lo and :hi 조건
+     * @return 처리된 row 수
+     */
+    protected abstract long executeWindow(Predicate window);
+
+    private N toKeyType(long value) {
+        return NumberUtils.convertNumberToTargetClass(value, key.getType());
+    }
+
+    private String getKey(String suffix) {
+        return name + "." + suffix;
+    }
+}
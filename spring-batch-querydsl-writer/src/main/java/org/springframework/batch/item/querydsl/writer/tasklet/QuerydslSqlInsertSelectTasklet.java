@@ -0,0 +1,107 @@
+package org.springframework.batch.item.querydsl.writer.tasklet;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.RelationalPath;
+import com.querydsl.sql.SQLQuery;
+import com.querydsl.sql.SQLQueryFactory;
+import com.querydsl.sql.dml.SQLInsertClause;
+import org.springframework.batch.item.querydsl.reader.options.QuerydslNoOffsetNumberOptions;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 원본 쿼리의 조회 결과를 DB 안에서 바로 대상 테이블로 복사하는 Tasklet
+ * insert into target (columns) select (sources) from ... where key between :lo and :hi and (원본 쿼리 조건)
+ *
+ * Reader -> Processor (ManufactureBackup::new) -> Writer 처럼 row 를 애플리케이션으로 가져오지 않는다.
+ * key 구간 / commit / 재시작은 QuerydslKeyRangeTasklet 과 같다.
+ *
+ * - sourceQuery 는 from / where 만 지정하고 select 는 column(target, source) 로 지정한다
+ * - key 는 원본 테이블의 컬럼이다
+ * - 커넥션은 DataSourceUtils 로 가져오므로 Step 트랜잭션에 참여한다
+ */
+public class QuerydslSqlInsertSelectTasklet<N extends Number & Comparable<?>> extends QuerydslKeyRangeTasklet<N> {
+
+    private final DataSource dataSource;
+    private final Configuration configuration;
+    private final RelationalPath<?> target;
+    private final List<Path<?>> targetColumns = new ArrayList<>();
+    private final List<Expression<?>> sourceColumns = new ArrayList<>();
+
+    private final SQLQuery<?> sourceTemplate;
+
+    public QuerydslSqlInsertSelectTasklet(DataSource dataSource,
+                                          Configuration configuration,
+                                          NumberPath<N> key,
+                                          long windowSize,
+                                          RelationalPath<?> target,
+                                          Function<SQLQueryFactory, SQLQuery<?>> sourceQuery) {
+        super(key, windowSize);
+        Assert.notNull(dataSource, "dataSource is required");
+        Assert.notNull(configuration, "configuration is required");
+        Assert.notNull(target, "target is required");
+        Assert.notNull(sourceQuery, "sourceQuery is required");
+
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.target = target;
+        this.sourceTemplate = sourceQuery.apply(new SQLQueryFactory(configuration, dataSource));
+    }
+
+    /**
+     * 대상 테이블의 컬럼에 저장할 원본 값 (컬럼, 상수, 연산식)
+     */
+    public <T> QuerydslSqlInsertSelectTasklet<N> column(Path<T> targetColumn, Expression<? extends T> source) {
+        targetColumns.add(targetColumn);
+        sourceColumns.add(source);
+        return this;
+    }
+
+    /**
+     * 원본 쿼리의 정렬은 키 조회에 필요없으므로 제거한다
+     * group by 쿼리면 min, max 대신 정렬 후 1건 조회를 한다 (NoOffset Reader 와 같다)
+     */
+    @Override
+    protected void initKeys(QuerydslNoOffsetNumberOptions<?, N> keyRange) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            keyRange.initKeys(() -> {
+                SQLQuery<?> query = sourceTemplate.clone(connection);
+                query.getMetadata().clearOrderBy();
+                return query;
+            }, keyRange.isGroupByQuery(sourceTemplate.getMetadata()));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    protected long executeWindow(Predicate window) {
+        Assert.state(!targetColumns.isEmpty(), "columns are required");
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            SQLQuery<Tuple> select = sourceTemplate.clone(connection)
+                    .select(sourceColumns.toArray(new Expression<?>[0]))
+                    .where(window);
+
+            return new SQLInsertClause(connection, configuration, target)
+                    .columns(targetColumns.toArray(new Path<?>[0]))
+                    .select(select)
+                    .execute();
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}